@@ -4,9 +4,11 @@ import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import io.taf.catalogs.AbstractCatalogListView;
 import io.taf.layouts.DefaultAppLayout;
+import io.taf.views.list.ListProjection;
 
 @Route(value = "clients", layout = DefaultAppLayout.class)
 @PageTitle("Clients")
+@ListProjection
 public class ClientsListView
         extends AbstractCatalogListView<ClientsEntity, Long, ClientsItemView, ClientsListView> {
 }
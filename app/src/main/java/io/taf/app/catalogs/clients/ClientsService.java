@@ -1,9 +1,12 @@
 package io.taf.app.catalogs.clients;
 
 import io.taf.service.AbstractCatalogService;
+import io.taf.service.CountConfig;
+import io.taf.service.CountStrategy;
 import org.springframework.stereotype.Service;
 
 @Service
+@CountConfig(strategy = CountStrategy.ESTIMATED)
 public class ClientsService
         extends AbstractCatalogService<ClientsEntity, Long> {
 }
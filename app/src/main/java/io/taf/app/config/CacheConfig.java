@@ -0,0 +1,11 @@
+package io.taf.app.config;
+
+import io.taf.config.DefaultCacheConfig;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+@Configuration
+@Import(DefaultCacheConfig.class)
+@SuppressWarnings("unused")
+public class CacheConfig {
+}
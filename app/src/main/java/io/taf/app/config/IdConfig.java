@@ -0,0 +1,11 @@
+package io.taf.app.config;
+
+import io.taf.config.DefaultIdConfig;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+@Configuration
+@Import(DefaultIdConfig.class)
+@SuppressWarnings("unused")
+public class IdConfig {
+}
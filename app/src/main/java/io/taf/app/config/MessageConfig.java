@@ -6,7 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
-import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+import org.springframework.context.support.AbstractResourceBasedMessageSource;
 
 @Configuration
 @Import(DefaultMessageConfig.class)
@@ -18,7 +18,7 @@ public class MessageConfig implements InitializingBean {
 
     @Override
     public void afterPropertiesSet() throws Exception {
-        var messageSource = (ReloadableResourceBundleMessageSource) this.messageSource;
+        var messageSource = (AbstractResourceBasedMessageSource) this.messageSource;
         messageSource.addBasenames("classpath:app_messages");
     }
 }
@@ -0,0 +1,107 @@
+package io.taf.benchmark;
+
+import io.taf.app.Application;
+import io.taf.app.catalogs.clients.ClientsEntity;
+import io.taf.app.catalogs.clients.ClientsService;
+import io.taf.utils.EntityUtils;
+import jakarta.annotation.Nonnull;
+import lombok.Getter;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Application context shared by the benchmarks. Starts the application without the web server against
+ * the database of the {@code benchmark} profile and generates the rows of the clients catalog.
+ */
+public class BenchmarkContext implements AutoCloseable {
+
+    private static final String TABLE = EntityUtils.getTableName(ClientsEntity.class);
+
+    private final ConfigurableApplicationContext context;
+
+    @Getter
+    private final ClientsService service;
+
+    @Getter
+    private final JdbcTemplate jdbcTemplate;
+
+    public BenchmarkContext() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run();
+        service = context.getBean(ClientsService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @Nonnull
+    public <T> T getBean(@Nonnull Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Creates generated clients that are not persisted yet.
+     *
+     * @param rows the number of clients
+     * @return the new clients
+     */
+    @Nonnull
+    public static List<ClientsEntity> newClients(int rows) {
+        return IntStream.range(0, rows)
+                .mapToObj(i -> ClientsEntity.builder()
+                        .code("C%07d".formatted(i))
+                        .title("Client " + i)
+                        .comment("Generated client " + i)
+                        .name("Name " + i)
+                        .surname("Surname " + i)
+                        .salary(1000L + i % 5000)
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Makes the clients table hold exactly the given number of generated rows. The table is filled again
+     * only if its row count differs.
+     *
+     * @param rows the number of rows
+     */
+    public void ensureClients(int rows) {
+        if (countClients() == rows) {
+            return;
+        }
+        clearClients();
+        service.createAll(newClients(rows));
+    }
+
+    public void clearClients() {
+        jdbcTemplate.execute("truncate table " + TABLE);
+        service.evictCachedCounts();
+    }
+
+    public long countClients() {
+        return Objects.requireNonNull(jdbcTemplate.queryForObject("select count(*) from " + TABLE, Long.class));
+    }
+
+    /**
+     * Finds the identifier of the client at the given position in identifier order.
+     *
+     * @param offset the zero-based position
+     * @return the identifier
+     */
+    public long findClientId(int offset) {
+        return Objects.requireNonNull(jdbcTemplate.queryForObject(
+                "select id from " + TABLE + " order by id offset ? limit 1", Long.class, offset));
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+}
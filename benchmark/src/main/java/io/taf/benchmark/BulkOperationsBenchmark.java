@@ -0,0 +1,116 @@
+package io.taf.benchmark;
+
+import io.taf.app.catalogs.clients.ClientsEntity;
+import io.taf.entity.AbstractEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the bulk operations of the service with writing the same clients one by one, each in its own
+ * transaction. Every invocation writes all rows once; the table is prepared outside the measured time.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class BulkOperationsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Database {
+
+        @Param({"10000", "100000"})
+        public int rows;
+
+        private BenchmarkContext context;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = new BenchmarkContext();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class NewClients {
+
+        private List<ClientsEntity> entities;
+
+        @Setup(Level.Invocation)
+        public void setUp(Database database) {
+            database.context.clearClients();
+            entities = BenchmarkContext.newClients(database.rows);
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class StoredClients {
+
+        private List<ClientsEntity> entities;
+
+        @Setup(Level.Invocation)
+        public void setUp(Database database) {
+            database.context.ensureClients(database.rows);
+            entities = database.context.getService()
+                    .slice(Pageable.unpaged(Sort.by(AbstractEntity.Fields.id)), null)
+                    .getContent();
+            var comment = "Updated " + System.nanoTime();
+            entities.forEach(entity -> entity.setComment(comment));
+        }
+
+    }
+
+    @Benchmark
+    public List<ClientsEntity> createAll(Database database, NewClients clients) {
+        return database.context.getService().createAll(clients.entities);
+    }
+
+    @Benchmark
+    public void createEach(Database database, NewClients clients, Blackhole blackhole) {
+        clients.entities.forEach(entity -> blackhole.consume(database.context.getService().create(entity)));
+    }
+
+    @Benchmark
+    public List<ClientsEntity> updateAll(Database database, StoredClients clients) {
+        return database.context.getService().updateAll(clients.entities);
+    }
+
+    @Benchmark
+    public void updateEach(Database database, StoredClients clients, Blackhole blackhole) {
+        clients.entities.forEach(entity -> blackhole.consume(database.context.getService().update(entity)));
+    }
+
+    @Benchmark
+    public void deleteAllById(Database database, StoredClients clients) {
+        database.context.getService().deleteAllById(clients.entities.stream().map(ClientsEntity::getId).toList());
+    }
+
+    @Benchmark
+    public void deleteEach(Database database, StoredClients clients) {
+        clients.entities.forEach(entity -> database.context.getService().delete(entity.getId()));
+    }
+
+}
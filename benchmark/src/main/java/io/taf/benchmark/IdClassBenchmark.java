@@ -0,0 +1,38 @@
+package io.taf.benchmark;
+
+import io.taf.app.catalogs.clients.ClientsEntity;
+import io.taf.entity.AbstractEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.GenericTypeResolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures hydrating a client together with its identifier class, resolved through the cache of
+ * {@link io.taf.utils.GenericUtils} and, for comparison, reflectively on every instance.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdClassBenchmark {
+
+    @Benchmark
+    public Class<?> cached() {
+        return new ClientsEntity().getIdClass();
+    }
+
+    @Benchmark
+    public Class<?> resolved() {
+        new ClientsEntity();
+        return GenericTypeResolver.resolveTypeArguments(ClientsEntity.class, AbstractEntity.class)[0];
+    }
+
+}
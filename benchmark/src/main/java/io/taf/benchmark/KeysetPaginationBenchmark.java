@@ -0,0 +1,83 @@
+package io.taf.benchmark;
+
+import io.taf.app.catalogs.clients.ClientsEntity;
+import io.taf.entity.AbstractEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares fetching a grid page by offset with seeking it by keyset, at the start, in the middle and at the end
+ * of the clients catalog. The offset fetch grows with the depth, the keyset fetch should stay flat.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeysetPaginationBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private static final Sort SORT = Sort.by(AbstractEntity.Fields.id);
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    /**
+     * Relative position of the fetched page, 0 for the first and 1 for the last page.
+     */
+    @Param({"0", "0.5", "1"})
+    public double depth;
+
+    private BenchmarkContext context;
+
+    private int page;
+
+    private ScrollPosition position;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new BenchmarkContext();
+        context.ensureClients(rows);
+        page = (int) ((rows / PAGE_SIZE - 1) * depth);
+        position = page == 0
+                ? ScrollPosition.keyset()
+                : ScrollPosition.forward(Map.of(AbstractEntity.Fields.id, context.findClientId(page * PAGE_SIZE - 1)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Slice<ClientsEntity> offset() {
+        return context.getService().slice(PageRequest.of(page, PAGE_SIZE, SORT), null);
+    }
+
+    @Benchmark
+    public Window<ClientsEntity> keyset() {
+        return context.getService().scroll(position, SORT, PAGE_SIZE);
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.taf.benchmark;
+
+import io.taf.app.catalogs.clients.ClientsEntity;
+import io.taf.entity.AbstractEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares fetching a grid page in the read-only transaction of the service with fetching it in a read-write
+ * transaction, which keeps snapshots for dirty checking and flushes. Run with {@code -prof gc} to compare
+ * the allocations per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    private static final int ROWS = 10000;
+
+    @Param({"50", "500"})
+    public int pageSize;
+
+    private BenchmarkContext context;
+
+    private TransactionTemplate readWrite;
+
+    private PageRequest pageRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new BenchmarkContext();
+        context.ensureClients(ROWS);
+        readWrite = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        pageRequest = PageRequest.of(0, pageSize, Sort.by(AbstractEntity.Fields.id));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Slice<ClientsEntity> readOnly() {
+        return context.getService().slice(pageRequest, null);
+    }
+
+    @Benchmark
+    public Slice<ClientsEntity> readWrite() {
+        return readWrite.execute(status -> context.getService().getRepository().findSliceBy(pageRequest));
+    }
+
+}
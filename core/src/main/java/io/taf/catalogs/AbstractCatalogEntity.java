@@ -1,6 +1,7 @@
 package io.taf.catalogs;
 
 import io.taf.entity.AbstractDataEntity;
+import io.taf.search.SearchField;
 import io.taf.utils.fields.FieldOrder;
 import io.taf.utils.fields.textarea.TextAreaConfig;
 import io.taf.utils.fields.textfield.TextFieldConfig;
@@ -33,6 +34,7 @@ public abstract class AbstractCatalogEntity<ID extends Serializable>
     @FieldOrder(value = 110)
     @DisplayOnListDataView(order = 110)
     @GridColumnConfig(header = "${field.title.code}")
+    @SearchField
     @Column(name = "code", nullable = false)
     private String code;
 
@@ -40,6 +42,7 @@ public abstract class AbstractCatalogEntity<ID extends Serializable>
     @FieldOrder(value = 120)
     @DisplayOnListDataView(order = 120)
     @GridColumnConfig(header = "${field.title.title}")
+    @SearchField
     @Column(name = "title", nullable = false)
     private String title;
 
@@ -0,0 +1,43 @@
+package io.taf.catalogs;
+
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables the Hibernate second-level cache for the entity of a catalog. Put it on the catalog meta element.
+ * The entities are kept in a local JCache region bounded by size and time to live; reads by identifier are
+ * served from the region, and the list queries of the catalog service are cached as well if enabled.
+ * <p>
+ * Hibernate cannot tell which rows a bulk statement changed, so every {@code CriteriaUpdate}, {@code CriteriaDelete}
+ * or native update of the catalog evicts its entire region and invalidates its cached queries. Attribute updates of
+ * a cached catalog therefore take the dirty-checked path, which refreshes only the entry of the updated entity.
+ * Bulk marks by filter and imports still evict the region, the entities are read from the database again afterward.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CatalogCache {
+
+    CacheConcurrencyStrategy usage() default CacheConcurrencyStrategy.READ_WRITE;
+
+    /**
+     * @return the maximum number of entities kept in the region
+     */
+    long maxEntries() default 10_000;
+
+    /**
+     * Specifies how long an entity stays in the region after it was written there.
+     *
+     * @return the time to live in seconds, 0 for no expiration
+     */
+    long ttl() default 600;
+
+    /**
+     * @return whether the list queries of the catalog are cached in the query cache
+     */
+    boolean queries() default true;
+
+}
@@ -0,0 +1,35 @@
+package io.taf.catalogs;
+
+import io.taf.meta.MetaAnnotationRegistry;
+import jakarta.annotation.Nonnull;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Registry of the catalog entities cached with {@link CatalogCache}.
+ */
+@Component
+public class CatalogCacheRegistry extends MetaAnnotationRegistry<CatalogCache> {
+
+    public CatalogCacheRegistry(@Nonnull ListableBeanFactory beanFactory) {
+        super(beanFactory, CatalogCache.class);
+    }
+
+    /**
+     * @return the cache settings by entity class
+     */
+    @Nonnull
+    public Map<Class<?>, CatalogCache> getCaches() {
+        return getAnnotations();
+    }
+
+    @Override
+    protected void validate(@Nonnull Class<?> type, @Nonnull CatalogCache annotation) {
+        if (!CatalogMetaElement.class.isAssignableFrom(type)) {
+            throw new IllegalStateException("@CatalogCache is only supported on catalog meta elements: " + type.getName());
+        }
+    }
+
+}
@@ -1,21 +1,90 @@
 package io.taf.catalogs;
 
+import jakarta.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.OrderComparator;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+/**
+ * Registry of the catalog meta elements. The elements are sorted once into an immutable list when the context
+ * is refreshed, together with the lookups by entity class and view class, so the registry can be read
+ * concurrently by all UIs.
+ */
 @Component
+@SuppressWarnings("rawtypes")
 public class CatalogsHolder {
 
     @Autowired
     private final List<CatalogMetaElement> catalogMetaElements = new ArrayList<>();
 
+    private volatile Registry registry;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void refresh() {
+        registry = createRegistry();
+    }
+
+    /**
+     * @return the catalog meta elements sorted by order
+     */
+    @Nonnull
     public List<CatalogMetaElement> getSections() {
-        catalogMetaElements.sort(OrderComparator.INSTANCE);
-        return catalogMetaElements;
+        return getRegistry().elements();
+    }
+
+    @Nonnull
+    public Optional<CatalogMetaElement> findByEntityClass(@Nonnull Class<?> entityClass) {
+        return Optional.ofNullable(getRegistry().elementsByEntityClass().get(entityClass));
+    }
+
+    /**
+     * Finds the catalog meta element by its list view class or item view class.
+     *
+     * @param viewClass the view class
+     * @return the catalog meta element or empty if the view does not belong to a catalog
+     */
+    @Nonnull
+    public Optional<CatalogMetaElement> findByViewClass(@Nonnull Class<?> viewClass) {
+        return Optional.ofNullable(getRegistry().elementsByViewClass().get(viewClass));
+    }
+
+    @Nonnull
+    private Registry getRegistry() {
+        var result = registry;
+        if (result == null) {
+            result = createRegistry();
+            registry = result;
+        }
+        return result;
+    }
+
+    @Nonnull
+    private Registry createRegistry() {
+        var sorted = new ArrayList<>(catalogMetaElements);
+        sorted.sort(OrderComparator.INSTANCE);
+
+        var byEntityClass = new HashMap<Class<?>, CatalogMetaElement>();
+        var byViewClass = new HashMap<Class<?>, CatalogMetaElement>();
+        sorted.forEach(element -> {
+            byEntityClass.putIfAbsent(element.getEntityClass(), element);
+            byViewClass.putIfAbsent(element.getListViewClass(), element);
+            byViewClass.putIfAbsent(element.getItemViewClass(), element);
+        });
+
+        return new Registry(List.copyOf(sorted), Map.copyOf(byEntityClass), Map.copyOf(byViewClass));
+    }
+
+    private record Registry(@Nonnull List<CatalogMetaElement> elements,
+                            @Nonnull Map<Class<?>, CatalogMetaElement> elementsByEntityClass,
+                            @Nonnull Map<Class<?>, CatalogMetaElement> elementsByViewClass) {
     }
 
 }
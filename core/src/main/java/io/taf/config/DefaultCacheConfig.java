@@ -0,0 +1,88 @@
+package io.taf.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.taf.catalogs.CatalogCache;
+import io.taf.catalogs.CatalogCacheRegistry;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configures the Hibernate second-level cache for the catalogs annotated with {@link CatalogCache}. The regions
+ * live in a local Caffeine JCache manager; each cached catalog gets its own region bounded by the size and
+ * time to live of the annotation. The query cache holds at most {@code taf.cache.query.max-entries} results for
+ * {@code taf.cache.query.ttl} seconds. Nothing is enabled if no catalog is cached or {@code taf.cache.enabled}
+ * is false.
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class DefaultCacheConfig {
+
+    /**
+     * Hibernate setting prefix declaring the cache of an entity class: {@code usage[,region]}.
+     */
+    public static final String CLASS_CACHE_PREFIX = "hibernate.classcache.";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager catalogCacheManager(CatalogCacheRegistry catalogCacheRegistry,
+                                            @Value("${taf.cache.query.max-entries:1000}") long queryMaxEntries,
+                                            @Value("${taf.cache.query.ttl:300}") long queryTtl) {
+        var provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        var cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        catalogCacheRegistry.getCaches().forEach((entityClass, cache) ->
+                createCache(cacheManager, entityClass.getName(), cache.maxEntries(), cache.ttl()));
+        createCache(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, queryMaxEntries, queryTtl);
+        // The update timestamps must outlive all cached query results, so the region is never evicted
+        createCache(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, 0, 0);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer catalogCacheCustomizer(CatalogCacheRegistry catalogCacheRegistry,
+                                                                CacheManager catalogCacheManager,
+                                                                @Value("${taf.cache.enabled:true}") boolean enabled) {
+        return properties -> {
+            var caches = catalogCacheRegistry.getCaches();
+            if (!enabled || caches.isEmpty()) {
+                return;
+            }
+
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, caches.values().stream().anyMatch(CatalogCache::queries));
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, catalogCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create");
+            caches.forEach((entityClass, cache) -> properties.put(CLASS_CACHE_PREFIX + entityClass.getName(),
+                    cache.usage().toAccessType().getExternalName() + "," + entityClass.getName()));
+        };
+    }
+
+    private void createCache(CacheManager cacheManager, String name, long maxEntries, long ttl) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+
+        var configuration = new CaffeineConfiguration<>();
+        configuration.setStatisticsEnabled(true);
+        if (maxEntries > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        }
+        if (ttl > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttl)));
+        }
+        cacheManager.createCache(name, configuration);
+    }
+
+}
@@ -0,0 +1,29 @@
+package io.taf.config;
+
+import io.taf.entity.PooledSequenceGenerator;
+import io.taf.meta.IdSequence;
+import io.taf.meta.IdSequenceRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configures the {@link PooledSequenceGenerator} of the entity identifiers. The default allocation size is
+ * {@code taf.id.allocation-size}; entities with an {@link IdSequence} on their meta element use its size.
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class DefaultIdConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer idSequenceCustomizer(IdSequenceRegistry idSequenceRegistry,
+                                                              @Value("${taf.id.allocation-size:" + PooledSequenceGenerator.DEFAULT_ALLOCATION_SIZE + "}") int allocationSize) {
+        return properties -> {
+            properties.put(PooledSequenceGenerator.ALLOCATION_SIZE_SETTING, allocationSize);
+            idSequenceRegistry.getSequences().forEach((entityClass, sequence) -> properties.put(
+                    PooledSequenceGenerator.ALLOCATION_SIZE_SETTING + "." + entityClass.getName(), sequence.allocationSize()));
+        };
+    }
+
+}
@@ -0,0 +1,45 @@
+package io.taf.config;
+
+import io.taf.imports.BatchImportBackend;
+import io.taf.imports.CopyImportBackend;
+import io.taf.imports.ImportBackend;
+import lombok.SneakyThrows;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Configures the catalog import backend. The backend is chosen by the {@code taf.import.backend} property
+ * ({@code copy} or {@code batch}); by default it is detected from the database: {@code COPY} through a staging
+ * table for PostgreSQL and JDBC batches otherwise.
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class DefaultImportConfig {
+
+    public static final String IMPORT_BACKEND_COPY = "copy";
+    public static final String IMPORT_BACKEND_BATCH = "batch";
+
+    @Bean
+    public ImportBackend importBackend(DataSource dataSource,
+                                       @Value("${taf.import.backend:}") String backend) {
+        var type = backend.isBlank() ? detectBackend(dataSource) : backend;
+        return switch (type) {
+            case IMPORT_BACKEND_COPY -> new CopyImportBackend(dataSource);
+            case IMPORT_BACKEND_BATCH -> new BatchImportBackend();
+            default -> throw new IllegalArgumentException("Unknown import backend: " + type);
+        };
+    }
+
+    @SneakyThrows
+    private String detectBackend(DataSource dataSource) {
+        try (var connection = dataSource.getConnection()) {
+            return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())
+                    ? IMPORT_BACKEND_COPY
+                    : IMPORT_BACKEND_BATCH;
+        }
+    }
+
+}
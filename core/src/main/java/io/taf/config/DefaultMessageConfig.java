@@ -1,9 +1,11 @@
 package io.taf.config;
 
+import io.taf.utils.CompiledMessageSource;
 import org.apache.commons.compress.utils.CharsetNames;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.i18n.SessionLocaleResolver;
@@ -15,11 +17,30 @@ import java.util.TimeZone;
 @SuppressWarnings("unused")
 public class DefaultMessageConfig {
 
+    public static final String DEV_PROFILE = "dev";
+
+    /**
+     * Compiles the message bundles into an immutable table once, so resolving a message is a map lookup.
+     */
     @Bean
+    @Profile("!" + DEV_PROFILE)
     public MessageSource messageSource() {
+        var bean = new CompiledMessageSource();
+        bean.setDefaultEncoding(CharsetNames.UTF_8);
+        bean.setBasenames("classpath:messages");
+        return bean;
+    }
+
+    /**
+     * Re-reads the message bundles when they change, for development only.
+     */
+    @Bean(name = "messageSource")
+    @Profile(DEV_PROFILE)
+    public MessageSource reloadableMessageSource() {
         var bean = new ReloadableResourceBundleMessageSource();
         bean.setDefaultEncoding(CharsetNames.UTF_8);
         bean.setBasenames("classpath:messages");
+        bean.setCacheSeconds(1);
         return bean;
     }
 
@@ -0,0 +1,64 @@
+package io.taf.config;
+
+import io.taf.search.InMemorySearchBackend;
+import io.taf.search.LikeSearchBackend;
+import io.taf.search.SearchBackend;
+import io.taf.search.TrigramIndexInitializer;
+import io.taf.search.TrigramSearchBackend;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.SneakyThrows;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Configures the catalog search backend. The backend is chosen by the {@code taf.search.backend} property
+ * ({@code like}, {@code trigram} or {@code in-memory}); by default it is detected from the database:
+ * trigram indexes for PostgreSQL, the in-memory index for H2 and plain {@code like} matching otherwise.
+ * The trigram indexes are created at startup only if {@code taf.search.trigram.create-indexes} is enabled.
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class DefaultSearchConfig {
+
+    public static final String SEARCH_BACKEND_LIKE = "like";
+    public static final String SEARCH_BACKEND_TRIGRAM = "trigram";
+    public static final String SEARCH_BACKEND_IN_MEMORY = "in-memory";
+
+    @Bean
+    public SearchBackend searchBackend(DataSource dataSource,
+                                       @Value("${taf.search.backend:}") String backend) {
+        var type = backend.isBlank() ? detectBackend(dataSource) : backend;
+        return switch (type) {
+            case SEARCH_BACKEND_TRIGRAM -> new TrigramSearchBackend(dataSource);
+            case SEARCH_BACKEND_IN_MEMORY -> new InMemorySearchBackend();
+            case SEARCH_BACKEND_LIKE -> new LikeSearchBackend();
+            default -> throw new IllegalArgumentException("Unknown search backend: " + type);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "taf.search.trigram.create-indexes", havingValue = "true")
+    public TrigramIndexInitializer trigramIndexInitializer(SearchBackend searchBackend,
+                                                           EntityManagerFactory entityManagerFactory) {
+        if (!(searchBackend instanceof TrigramSearchBackend trigramSearchBackend)) {
+            throw new IllegalStateException("taf.search.trigram.create-indexes requires the trigram search backend");
+        }
+        return new TrigramIndexInitializer(trigramSearchBackend, entityManagerFactory);
+    }
+
+    @SneakyThrows
+    private String detectBackend(DataSource dataSource) {
+        try (var connection = dataSource.getConnection()) {
+            return switch (connection.getMetaData().getDatabaseProductName()) {
+                case "PostgreSQL" -> SEARCH_BACKEND_TRIGRAM;
+                case "H2" -> SEARCH_BACKEND_IN_MEMORY;
+                default -> SEARCH_BACKEND_LIKE;
+            };
+        }
+    }
+
+}
@@ -11,6 +11,8 @@ import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.FieldNameConstants;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.GenericGenerator;
 
 import java.io.Serializable;
 
@@ -33,8 +35,15 @@ public abstract class AbstractEntity<ID extends Serializable>
     @DisplayOnListDataView(order = 100)
     @GridColumnConfig(header = "${field.title.id}", frozen = true, resizable = false, flexGrow = 0)
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = PooledSequenceGenerator.NAME)
+    @GenericGenerator(name = PooledSequenceGenerator.NAME, type = PooledSequenceGenerator.class)
     @Column(name = "id")
     private ID id;
 
+    @EqualsAndHashCode.Exclude
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 }
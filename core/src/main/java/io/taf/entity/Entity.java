@@ -34,6 +34,17 @@ public interface Entity<ID extends Serializable>
      */
     void setId(@Nullable ID id);
 
+    /**
+     * Gets the version of the entity used for optimistic locking. Every update increments the version,
+     * an update of an entity with an outdated version fails.
+     *
+     * @return the version of the entity, or null if it is a new entity
+     */
+    @Nullable
+    Long getVersion();
+
+    void setVersion(@Nullable Long version);
+
     /**
      * Determines if the entity is new or has been persisted.
      * An entity is considered new if its ID is null.
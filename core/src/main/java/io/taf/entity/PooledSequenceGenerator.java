@@ -0,0 +1,64 @@
+package io.taf.entity;
+
+import io.taf.meta.IdSequence;
+import org.hibernate.MappingException;
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Sequence generator of the entity identifiers with the pooled-lo optimizer: one sequence call allocates
+ * a block of identifiers starting at the returned value, so inserts need no further round trips until the
+ * block is used up and can be sent as JDBC batches. The block size is the {@link IdSequence allocation size}
+ * of the entity, {@link #ALLOCATION_SIZE_SETTING} otherwise. The sequence keeps the implicit per-entity name
+ * Hibernate gives it without a named generator, {@code <entity name>_SEQ}, so existing databases continue with
+ * their sequences; the generator name is shared by all entities and never names a sequence.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String NAME = "taf-pooled-sequence";
+
+    /**
+     * Hibernate setting of the default allocation size, suffixed with {@code .<entity name>} for a single entity.
+     */
+    public static final String ALLOCATION_SIZE_SETTING = "taf.id.allocation-size";
+
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    /**
+     * Suffix of the implicit sequence names of Hibernate's standard naming strategy.
+     */
+    private static final String SEQUENCE_SUFFIX = "_SEQ";
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        var settings = serviceRegistry.requireService(ConfigurationService.class).getSettings();
+        var allocationSize = ConfigurationHelper.getInt(ALLOCATION_SIZE_SETTING, settings, DEFAULT_ALLOCATION_SIZE);
+        var entityName = parameters.getProperty(IdentifierGenerator.ENTITY_NAME);
+        if (entityName != null) {
+            allocationSize = ConfigurationHelper.getInt(ALLOCATION_SIZE_SETTING + "." + entityName, settings, allocationSize);
+        }
+
+        if (!parameters.containsKey(SEQUENCE_PARAM)) {
+            // The same base the standard naming strategy uses: the JPA entity name, the table as a last resort
+            Optional.ofNullable(parameters.getProperty(IMPLICIT_NAME_BASE))
+                    .or(() -> Optional.ofNullable(parameters.getProperty(IdentifierGenerator.JPA_ENTITY_NAME)))
+                    .or(() -> Optional.ofNullable(parameters.getProperty(PersistentIdentifierGenerator.TABLE))
+                            .map(table -> Identifier.toIdentifier(table).getText()))
+                    .ifPresent(base -> parameters.put(SEQUENCE_PARAM, base + SEQUENCE_SUFFIX));
+        }
+        parameters.put(INCREMENT_PARAM, String.valueOf(allocationSize));
+        parameters.put(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+}
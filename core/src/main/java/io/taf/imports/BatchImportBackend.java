@@ -0,0 +1,81 @@
+package io.taf.imports;
+
+import jakarta.annotation.Nonnull;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Portable import backend for H2 and other databases without a bulk load API. Every batch loads the existing
+ * entities with the imported keys in one query, updates them and persists the new ones. The persistence
+ * context is flushed and cleared after every batch, so Hibernate sends the statements as JDBC batches.
+ */
+public class BatchImportBackend implements ImportBackend {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Nonnull
+    @Override
+    public <ENTITY> ImportSink<ENTITY> open(@Nonnull ImportTable<ENTITY> table) {
+        return new BatchImportSink<>(table);
+    }
+
+    private class BatchImportSink<ENTITY> implements ImportSink<ENTITY> {
+
+        private final ImportTable<ENTITY> table;
+
+        private long inserted;
+
+        private long updated;
+
+        BatchImportSink(@Nonnull ImportTable<ENTITY> table) {
+            this.table = table;
+        }
+
+        @Override
+        public void write(@Nonnull List<ENTITY> entities) {
+            var key = table.key().accessor();
+            var imported = new LinkedHashMap<Object, ENTITY>();
+            entities.forEach(entity -> imported.put(key.get(entity), entity));
+
+            var builder = entityManager.getCriteriaBuilder();
+            var query = builder.createQuery(table.entityClass());
+            var root = query.from(table.entityClass());
+            query.where(root.get(table.key().attribute()).in(imported.keySet()));
+            var existing = entityManager.createQuery(query).getResultList();
+
+            existing.forEach(entity -> {
+                var source = imported.get(key.get(entity));
+                table.updatedColumns().forEach(column -> column.accessor().set(entity, column.accessor().get(source)));
+                updated++;
+            });
+
+            var existingKeys = existing.stream().map(key::get).collect(Collectors.toSet());
+            imported.forEach((value, entity) -> {
+                if (!existingKeys.contains(value)) {
+                    entityManager.persist(entity);
+                    inserted++;
+                }
+            });
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        @Nonnull
+        @Override
+        public Counts finish() {
+            return new Counts(inserted, updated);
+        }
+
+        @Override
+        public void close() {
+        }
+
+    }
+
+}
@@ -0,0 +1,508 @@
+package io.taf.imports;
+
+import io.taf.catalogs.AbstractCatalogEntity;
+import io.taf.catalogs.CatalogEntity;
+import io.taf.search.SearchBackend;
+import io.taf.service.CatalogService;
+import io.taf.utils.EntityUtils;
+import io.taf.utils.accessor.EntityAccessor;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.validation.Validator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.NoopOptimizer;
+import org.hibernate.id.enhanced.PooledLoOptimizer;
+import org.hibernate.id.enhanced.PooledLoThreadLocalOptimizer;
+import org.hibernate.id.enhanced.PooledOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Imports catalog entities from CSV. The header names the imported attributes and has to contain the
+ * {@link AbstractCatalogEntity.Fields#code code}, which matches the rows with the existing entities.
+ * The file is parsed as a stream; every batch of rows is converted and validated with the Bean Validation
+ * constraints of the entity in parallel, while the previous batch is written by the {@link ImportBackend}.
+ * Rows failing conversion or validation are rejected, the others are imported in one transaction.
+ * Imports started with {@link #importCsvAsync} run on a bounded pool of {@code taf.import.max-concurrent} threads,
+ * one import per catalog at a time.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogImporter {
+
+    /**
+     * Maximum number of rejected rows reported with their messages.
+     */
+    public static final int MAX_ERRORS = 100;
+
+    private static final ConversionService CONVERSION_SERVICE = DefaultConversionService.getSharedInstance();
+
+    private static final String THREAD_NAME_PREFIX = "taf-import-";
+
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull})
+    private final ImportBackend importBackend;
+
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull})
+    private final SearchBackend searchBackend;
+
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull})
+    private final Validator validator;
+
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull})
+    private final PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull})
+    private EntityManager entityManager;
+
+    /**
+     * Number of rows converted, validated and written together.
+     */
+    @Value("${taf.import.batch-size:5000}")
+    @Getter(value = AccessLevel.PROTECTED)
+    private int batchSize;
+
+    /**
+     * Number of imports running at the same time; as many more wait for a thread, further ones are rejected.
+     */
+    @Value("${taf.import.max-concurrent:2}")
+    @Getter(value = AccessLevel.PROTECTED)
+    private int maxConcurrent;
+
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull})
+    private ThreadPoolTaskExecutor taskExecutor;
+
+    private final Set<Class<?>> importedClasses = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    protected void initTaskExecutor() {
+        var size = Math.max(1, getMaxConcurrent());
+        taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(size);
+        taskExecutor.setMaxPoolSize(size);
+        taskExecutor.setQueueCapacity(size);
+        taskExecutor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        taskExecutor.initialize();
+    }
+
+    /**
+     * Interrupts the running imports, they are rolled back.
+     */
+    @PreDestroy
+    protected void destroyTaskExecutor() {
+        taskExecutor.shutdown();
+    }
+
+    /**
+     * Imports the entities of the catalog from a UTF-8 encoded CSV source on a thread of the import pool.
+     * Cancelling the returned future interrupts the import after the current batch and rolls it back.
+     *
+     * @param service          the service of the catalog
+     * @param source           the source of the CSV stream, the stream is closed after the import
+     * @param progressListener the listener notified after every batch, called on the importing thread
+     * @return the future result of the import; failed with an {@link IllegalStateException} if the catalog is
+     * already being imported, or with a {@link TaskRejectedException} if too many imports are waiting
+     */
+    @Nonnull
+    public <ENTITY extends CatalogEntity<ID>, ID extends Serializable> CompletableFuture<ImportResult> importCsvAsync(
+            @Nonnull CatalogService<ENTITY, ID> service, @Nonnull InputStreamSource source,
+            @Nonnull Consumer<ImportProgress> progressListener) {
+        var cls = service.getEntityClass();
+        if (!importedClasses.add(cls)) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("The catalog " + cls.getSimpleName() + " is already being imported"));
+        }
+
+        var task = new ImportTask<>(service, source, progressListener);
+        try {
+            getTaskExecutor().execute(task);
+        } catch (TaskRejectedException e) {
+            importedClasses.remove(cls);
+            return CompletableFuture.failedFuture(e);
+        }
+        return task.result;
+    }
+
+    /**
+     * Imports the entities of the catalog from a UTF-8 encoded CSV stream.
+     *
+     * @param service          the service of the catalog
+     * @param input            the CSV stream, it is not closed
+     * @param progressListener the listener notified after every batch, called on the importing thread
+     * @return the result of the import
+     * @throws IOException              if the stream cannot be read or is not valid CSV
+     * @throws IllegalArgumentException if the header is missing the code or contains an unknown attribute
+     */
+    @Nonnull
+    public <ENTITY extends CatalogEntity<ID>, ID extends Serializable> ImportResult importCsv(
+            @Nonnull CatalogService<ENTITY, ID> service, @Nonnull InputStream input,
+            @Nonnull Consumer<ImportProgress> progressListener) throws IOException {
+        var counter = new CountingInputStream(input);
+        var reader = new CsvRowReader(new InputStreamReader(counter, StandardCharsets.UTF_8));
+        var header = Optional.ofNullable(reader.read())
+                .orElseThrow(() -> new IllegalArgumentException("The import file is empty"));
+        var table = createTable(service.getEntityClass(), header);
+        var columns = table.columns().stream()
+                .collect(Collectors.toMap(ImportColumn::attribute, Function.identity()));
+        var fileColumns = header.stream().map(String::trim).map(columns::get).toList();
+
+        ImportResult result;
+        try {
+            result = new TransactionTemplate(getTransactionManager()).execute(status -> {
+                try (var sink = getImportBackend().open(table)) {
+                    return load(reader, counter, table, fileColumns, sink, progressListener);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        // The backend may bypass Hibernate, so cached entities and queries of the catalog are stale
+        var cache = getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        cache.evict(service.getEntityClass());
+        cache.evictQueryRegions();
+        getSearchBackend().invalidate(service);
+        service.evictCachedCounts();
+        return result;
+    }
+
+    /**
+     * Describes the table of the entity for the import of the given attributes.
+     *
+     * @param cls    the entity class
+     * @param header the names of the imported attributes
+     * @return the import table
+     * @throws IllegalArgumentException if the header is missing the code or contains an unknown attribute
+     */
+    @Nonnull
+    protected <ENTITY> ImportTable<ENTITY> createTable(@Nonnull Class<ENTITY> cls, @Nonnull List<String> header) {
+        var type = getEntityManager().getMetamodel().entity(cls);
+        var accessor = EntityAccessor.of(cls);
+        var columns = new LinkedHashMap<String, ImportColumn<ENTITY>>();
+        type.getSingularAttributes().stream()
+                .filter(attribute -> !attribute.isId() && !attribute.isVersion())
+                .filter(attribute -> attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC)
+                .filter(attribute -> attribute.getJavaMember() instanceof Field field && isInsertable(field))
+                .map(attribute -> (Field) attribute.getJavaMember())
+                .forEach(field -> columns.put(field.getName(), new ImportColumn<>(field.getName(),
+                        EntityUtils.getColumnName(field), accessor.getAccessor(field), isOrdinal(field))));
+
+        var names = header.stream().map(String::trim).toList();
+        names.stream()
+                .filter(name -> !columns.containsKey(name))
+                .findFirst()
+                .ifPresent(name -> {
+                    throw new IllegalArgumentException("Unknown import attribute " + name + " of " + cls.getName());
+                });
+        var key = Optional.ofNullable(columns.get(AbstractCatalogEntity.Fields.code))
+                .filter(column -> names.contains(column.attribute()))
+                .orElseThrow(() -> new IllegalArgumentException("The import file has no " + AbstractCatalogEntity.Fields.code + " column"));
+        var updatedColumns = names.stream()
+                .distinct()
+                .filter(name -> !name.equals(key.attribute()))
+                .map(columns::get)
+                .toList();
+
+        var generator = getEntityManager().getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(cls)
+                .getGenerator();
+        String sequence = null;
+        var increment = 1;
+        var offset = 0;
+        if (generator instanceof SequenceStyleGenerator sequenceGenerator) {
+            var name = sequenceGenerator.getDatabaseStructure().getPhysicalName().render();
+            var optimizer = sequenceGenerator.getOptimizer();
+            // A value starts the block of a pooled-lo optimizer and ends the block of a pooled one; other
+            // optimizers derive the identifiers in ways the import does not reproduce
+            if (optimizer instanceof PooledLoOptimizer || optimizer instanceof PooledLoThreadLocalOptimizer) {
+                sequence = name;
+                increment = optimizer.getIncrementSize();
+            } else if (optimizer instanceof PooledOptimizer) {
+                sequence = name;
+                increment = optimizer.getIncrementSize();
+                offset = 1 - increment;
+            } else if (optimizer instanceof NoopOptimizer) {
+                sequence = name;
+            }
+        }
+        var idColumn = EntityUtils.getColumnName((Field) type.getId(type.getIdType().getJavaType()).getJavaMember());
+        var versionColumn = type.getSingularAttributes().stream()
+                .filter(SingularAttribute::isVersion)
+                .map(attribute -> EntityUtils.getColumnName((Field) attribute.getJavaMember()))
+                .findFirst()
+                .orElse(null);
+
+        return new ImportTable<>(cls, EntityUtils.getTableName(cls), idColumn, sequence, increment, offset,
+                generator.generatedOnExecution(), versionColumn, key, List.copyOf(columns.values()), updatedColumns);
+    }
+
+    @Nonnull
+    private <ENTITY> ImportResult load(@Nonnull CsvRowReader reader, @Nonnull CountingInputStream counter,
+                                       @Nonnull ImportTable<ENTITY> table, @Nonnull List<ImportColumn<ENTITY>> fileColumns,
+                                       @Nonnull ImportSink<ENTITY> sink, @Nonnull Consumer<ImportProgress> progressListener)
+            throws IOException {
+        var rows = 0L;
+        var rejected = 0L;
+        var errors = new ArrayList<String>();
+        CompletableFuture<List<Row<ENTITY>>> pending = null;
+        List<CsvRecord> batch;
+        while (!(batch = readBatch(reader)).isEmpty()) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("The import was cancelled");
+            }
+            var records = batch;
+            var converting = CompletableFuture.supplyAsync(() -> records.parallelStream()
+                    .map(record -> convert(table, fileColumns, record))
+                    .toList());
+            // The previous batch is written while the current one is converted and validated
+            if (pending != null) {
+                rejected += write(sink, pending.join(), errors);
+            }
+            pending = converting;
+            rows += batch.size();
+            progressListener.accept(new ImportProgress(counter.getCount(), rows, rejected));
+        }
+        if (pending != null) {
+            rejected += write(sink, pending.join(), errors);
+        }
+
+        var counts = sink.finish();
+        progressListener.accept(new ImportProgress(counter.getCount(), rows, rejected));
+        return new ImportResult(rows, counts.inserted(), counts.updated(), rejected, List.copyOf(errors));
+    }
+
+    @Nonnull
+    private List<CsvRecord> readBatch(@Nonnull CsvRowReader reader) throws IOException {
+        var size = Math.max(1, getBatchSize());
+        var batch = new ArrayList<CsvRecord>(size);
+        List<String> values;
+        while (batch.size() < size && (values = reader.read()) != null) {
+            // Blank lines are skipped
+            if (values.size() > 1 || !values.get(0).isBlank()) {
+                batch.add(new CsvRecord(reader.getRecordNumber(), values));
+            }
+        }
+        return batch;
+    }
+
+    private <ENTITY> long write(@Nonnull ImportSink<ENTITY> sink, @Nonnull List<Row<ENTITY>> rows,
+                                @Nonnull List<String> errors) {
+        var entities = new ArrayList<ENTITY>(rows.size());
+        var rejected = 0L;
+        for (var row : rows) {
+            if (row.entity() != null) {
+                entities.add(row.entity());
+                continue;
+            }
+            rejected++;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(row.number() + ": " + row.error());
+            }
+        }
+        if (!entities.isEmpty()) {
+            sink.write(entities);
+        }
+        return rejected;
+    }
+
+    /**
+     * Converts the values of the record to a new entity and validates it. Empty values are converted to null,
+     * except for strings, which become empty, and primitives, which keep their default.
+     */
+    @Nonnull
+    private <ENTITY> Row<ENTITY> convert(@Nonnull ImportTable<ENTITY> table, @Nonnull List<ImportColumn<ENTITY>> columns,
+                                         @Nonnull CsvRecord record) {
+        var values = record.values();
+        if (values.size() != columns.size()) {
+            return new Row<>(record.number(), null, "expected " + columns.size() + " values, found " + values.size());
+        }
+        try {
+            var entity = BeanUtils.instantiateClass(table.entityClass());
+            for (var i = 0; i < values.size(); i++) {
+                var accessor = columns.get(i).accessor();
+                var value = values.get(i);
+                if (!value.isEmpty() || accessor.getType() == String.class) {
+                    accessor.set(entity, CONVERSION_SERVICE.convert(value, accessor.getType()));
+                } else if (!accessor.getType().isPrimitive()) {
+                    accessor.set(entity, null);
+                }
+            }
+
+            var violations = getValidator().validate(entity);
+            if (!violations.isEmpty()) {
+                return new Row<>(record.number(), null, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+            }
+            return new Row<>(record.number(), entity, null);
+        } catch (RuntimeException e) {
+            return new Row<>(record.number(), null, e.getMessage());
+        }
+    }
+
+    private boolean isInsertable(@Nonnull Field field) {
+        return Optional.ofNullable(field.getAnnotation(Column.class)).map(Column::insertable).orElse(true);
+    }
+
+    private boolean isOrdinal(@Nonnull Field field) {
+        return field.getType().isEnum() && Optional.ofNullable(field.getAnnotation(Enumerated.class))
+                .map(Enumerated::value)
+                .orElse(EnumType.ORDINAL) == EnumType.ORDINAL;
+    }
+
+    private record CsvRecord(long number, @Nonnull List<String> values) {
+    }
+
+    /**
+     * Converted record, either the valid entity or the reason of its rejection.
+     */
+    private record Row<ENTITY>(long number, @Nullable ENTITY entity, @Nullable String error) {
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(@Nonnull InputStream input) {
+            super(input);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var result = super.read();
+            if (result >= 0) {
+                count++;
+            }
+            return result;
+        }
+
+        @Override
+        public int read(@Nonnull byte[] buffer, int offset, int length) throws IOException {
+            var result = super.read(buffer, offset, length);
+            if (result > 0) {
+                count += result;
+            }
+            return result;
+        }
+
+    }
+
+
+    /**
+     * Import running on a pool thread. The thread is interrupted when the result is cancelled, but only while
+     * it runs this import, so a cancellation never reaches the next task of the thread.
+     */
+    private final class ImportTask<ENTITY extends CatalogEntity<ID>, ID extends Serializable> implements Runnable {
+
+        private final CatalogService<ENTITY, ID> service;
+
+        private final InputStreamSource source;
+
+        private final Consumer<ImportProgress> progressListener;
+
+        private final CompletableFuture<ImportResult> result = new CompletableFuture<>();
+
+        @Nullable
+        private Thread worker;
+
+        ImportTask(@Nonnull CatalogService<ENTITY, ID> service, @Nonnull InputStreamSource source,
+                   @Nonnull Consumer<ImportProgress> progressListener) {
+            this.service = service;
+            this.source = source;
+            this.progressListener = progressListener;
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    interrupt();
+                }
+            });
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (start()) {
+                    try (var input = source.getInputStream()) {
+                        result.complete(importCsv(service, input, progressListener));
+                    }
+                }
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                finish();
+                importedClasses.remove(service.getEntityClass());
+            }
+        }
+
+        private synchronized boolean start() {
+            if (result.isDone()) {
+                return false;
+            }
+            worker = Thread.currentThread();
+            return true;
+        }
+
+        private synchronized void finish() {
+            worker = null;
+            // Clears an interruption of this import
+            Thread.interrupted();
+        }
+
+        private synchronized void interrupt() {
+            if (worker != null) {
+                worker.interrupt();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,196 @@
+package io.taf.imports;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL import backend. The entities are streamed with a single {@code COPY} into a temporary staging
+ * table, which is merged into the catalog table by two set-based statements when the import finishes:
+ * an update of the rows with existing keys and an insert of the others. Of several staged rows with the same
+ * key only the last one is merged. The statements run on the connection of the import transaction.
+ * <p>
+ * Inserted rows get their identifiers from whole blocks of the identifier sequence, the same blocks the pooled
+ * generator of the entity allocates: one {@code nextval} reserves as many identifiers as the sequence increment,
+ * so importing {@code n} rows takes {@code n / increment} values instead of {@code n}.
+ */
+@Slf4j
+public class CopyImportBackend implements ImportBackend {
+
+    private static final String STAGING_PREFIX = "taf_import_";
+
+    private static final String STAGING_LINE_COLUMN = "import_line";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CopyImportBackend(@Nonnull DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Nonnull
+    @Override
+    public <ENTITY> ImportSink<ENTITY> open(@Nonnull ImportTable<ENTITY> table) {
+        return new CopyImportSink<>(table);
+    }
+
+    private class CopyImportSink<ENTITY> implements ImportSink<ENTITY> {
+
+        private final ImportTable<ENTITY> table;
+
+        private final String staging;
+
+        private final String columns;
+
+        @Nullable
+        private CopyIn copy;
+
+        CopyImportSink(@Nonnull ImportTable<ENTITY> table) {
+            this.table = table;
+            this.staging = STAGING_PREFIX + table.name().replace('.', '_');
+            this.columns = table.columns().stream().map(ImportColumn::column).collect(Collectors.joining(", "));
+            jdbcTemplate.execute("create temporary table " + staging + " on commit drop as " +
+                    "select " + columns + " from " + table.name() + " with no data");
+            jdbcTemplate.execute("alter table " + staging + " add column " + STAGING_LINE_COLUMN + " bigserial");
+        }
+
+        @Override
+        public void write(@Nonnull List<ENTITY> entities) {
+            var text = new StringBuilder();
+            entities.forEach(entity -> appendRow(text, entity));
+            var bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+            var sql = "copy " + staging + " (" + columns + ") from stdin with (format csv)";
+            try {
+                if (copy == null) {
+                    copy = jdbcTemplate.execute((ConnectionCallback<CopyIn>) connection ->
+                            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql));
+                }
+                copy.writeToCopy(bytes, 0, bytes.length);
+            } catch (SQLException e) {
+                throw new UncategorizedSQLException("Import", sql, e);
+            }
+        }
+
+        @Nonnull
+        @Override
+        public Counts finish() {
+            if (copy != null) {
+                try {
+                    copy.endCopy();
+                } catch (SQLException e) {
+                    throw new UncategorizedSQLException("Import", "copy " + staging, e);
+                } finally {
+                    copy = null;
+                }
+            }
+
+            // Without statistics the planner assumes a tiny staging table and nests loops over it
+            jdbcTemplate.execute("analyze " + staging);
+            var key = table.key().column();
+            jdbcTemplate.update("delete from " + staging + " as a using " + staging + " as b " +
+                    "where a." + key + " = b." + key + " and a." + STAGING_LINE_COLUMN + " < b." + STAGING_LINE_COLUMN);
+
+            var assignments = new ArrayList<String>();
+            table.updatedColumns().forEach(column -> assignments.add(column.column() + " = s." + column.column()));
+            if (table.versionColumn() != null) {
+                assignments.add(table.versionColumn() + " = t." + table.versionColumn() + " + 1");
+            }
+            if (assignments.isEmpty()) {
+                assignments.add(key + " = s." + key);
+            }
+            var updated = jdbcTemplate.update("update " + table.name() + " as t set " + String.join(", ", assignments) +
+                    " from " + staging + " as s where t." + key + " = s." + key);
+
+            var newRows = "select s.*, row_number() over (order by s." + STAGING_LINE_COLUMN + ") - 1 as row_index " +
+                    "from " + staging + " as s " +
+                    "where not exists (select 1 from " + table.name() + " as t where t." + key + " = s." + key + ")";
+            var count = jdbcTemplate.queryForObject("select count(*) from (" + newRows + ") as r", Long.class);
+            if (count == null || count == 0) {
+                return new Counts(0, updated);
+            }
+
+            var targetColumns = new ArrayList<String>();
+            var sourceColumns = new ArrayList<String>();
+            var blocks = "";
+            var from = " from new_rows as r";
+            if (table.idSequence() != null) {
+                // Every value reserves a block of identifiers, the blocks are numbered to spread the rows over them;
+                // the values need not be consecutive, so concurrent generators are not affected
+                var increment = Math.max(1, table.idIncrement());
+                blocks = "blocks as (select nextval('" + table.idSequence() + "') as block_value, " +
+                        "row_number() over () - 1 as block_index " +
+                        "from generate_series(1, " + ((count + increment - 1) / increment) + ")), ";
+                from += " join blocks as b on b.block_index = r.row_index / " + increment;
+                targetColumns.add(table.idColumn());
+                sourceColumns.add("b.block_value + " + table.idOffset() + " + r.row_index % " + increment);
+            } else if (!table.idGenerated()) {
+                throw new IllegalStateException("Cannot generate identifiers of imported " + table.entityClass().getName());
+            }
+            if (table.versionColumn() != null) {
+                targetColumns.add(table.versionColumn());
+                sourceColumns.add("0");
+            }
+            table.columns().forEach(column -> {
+                targetColumns.add(column.column());
+                sourceColumns.add("r." + column.column());
+            });
+            var inserted = jdbcTemplate.update("with " + blocks + "new_rows as (" + newRows + ") " +
+                    "insert into " + table.name() + " (" + String.join(", ", targetColumns) + ") " +
+                    "select " + String.join(", ", sourceColumns) + from + " order by r.row_index");
+
+            return new Counts(inserted, updated);
+        }
+
+        @Override
+        public void close() {
+            if (copy != null && copy.isActive()) {
+                try {
+                    copy.cancelCopy();
+                } catch (SQLException e) {
+                    log.warn("Cannot cancel the copy into {}", staging, e);
+                }
+            }
+        }
+
+        private void appendRow(@Nonnull StringBuilder text, @Nonnull ENTITY entity) {
+            var first = true;
+            for (var column : table.columns()) {
+                if (!first) {
+                    text.append(',');
+                }
+                first = false;
+                appendValue(text, column, column.accessor().get(entity));
+            }
+            text.append('\n');
+        }
+
+        /**
+         * Appends the value in the CSV format of {@code COPY}, where an unquoted empty value is null.
+         */
+        private void appendValue(@Nonnull StringBuilder text, @Nonnull ImportColumn<ENTITY> column, @Nullable Object value) {
+            if (value == null) {
+                return;
+            }
+            if (value instanceof Enum<?> constant) {
+                text.append(column.ordinal() ? constant.ordinal() : constant.name());
+            } else if (value instanceof Number || value instanceof Boolean) {
+                text.append(value);
+            } else {
+                text.append('"').append(value.toString().replace("\"", "\"\"")).append('"');
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,91 @@
+package io.taf.imports;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 CSV record by record, so the file is never held in memory. Quoted values may contain
+ * separators, doubled quotes and line breaks; a leading byte order mark is skipped.
+ */
+class CsvRowReader {
+
+    private static final char SEPARATOR = ',';
+
+    private static final char QUOTE = '"';
+
+    private final Reader reader;
+
+    private int next = -2;
+
+    private long recordNumber;
+
+    CsvRowReader(@Nonnull Reader reader) {
+        this.reader = new BufferedReader(reader);
+    }
+
+    /**
+     * @return the number of the last read record, starting with 1 for the header
+     */
+    long getRecordNumber() {
+        return recordNumber;
+    }
+
+    /**
+     * @return the values of the next record, null at the end of the input
+     * @throws IOException if the input cannot be read or a quoted value is not closed
+     */
+    @Nullable
+    List<String> read() throws IOException {
+        if (next == -2) {
+            next = reader.read();
+            if (next == '\uFEFF') {
+                next = reader.read();
+            }
+        }
+        if (next == -1) {
+            return null;
+        }
+
+        var values = new ArrayList<String>();
+        var value = new StringBuilder();
+        var quoted = false;
+        while (true) {
+            var c = next;
+            next = reader.read();
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unclosed quoted value in record " + (recordNumber + 1));
+                }
+                if (c != QUOTE) {
+                    value.append((char) c);
+                } else if (next == QUOTE) {
+                    value.append(QUOTE);
+                    next = reader.read();
+                } else {
+                    quoted = false;
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && next == '\n') {
+                    next = reader.read();
+                }
+                values.add(value.toString());
+                recordNumber++;
+                return values;
+            } else {
+                value.append((char) c);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,20 @@
+package io.taf.imports;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * Writes imported catalog entities into the database. Implementations decide how rows are transferred
+ * and merged with the existing ones.
+ */
+public interface ImportBackend {
+
+    /**
+     * Opens a sink writing into the table. Called within the import transaction.
+     *
+     * @param table the table to import into
+     * @return the sink
+     */
+    @Nonnull
+    <ENTITY> ImportSink<ENTITY> open(@Nonnull ImportTable<ENTITY> table);
+
+}
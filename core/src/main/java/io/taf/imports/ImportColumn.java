@@ -0,0 +1,17 @@
+package io.taf.imports;
+
+import io.taf.utils.accessor.PropertyAccessor;
+import jakarta.annotation.Nonnull;
+
+/**
+ * Persistent attribute of an imported catalog.
+ *
+ * @param attribute the attribute name, used as the header of the CSV column
+ * @param column    the physical column name
+ * @param accessor  the accessor of the attribute
+ * @param ordinal   whether the attribute is an enum stored by its ordinal
+ * @param <ENTITY>  the entity type
+ */
+public record ImportColumn<ENTITY>(@Nonnull String attribute, @Nonnull String column,
+                                   @Nonnull PropertyAccessor<ENTITY> accessor, boolean ordinal) {
+}
@@ -0,0 +1,11 @@
+package io.taf.imports;
+
+/**
+ * Progress of a running import, reported after every batch.
+ *
+ * @param bytes    the number of bytes read from the file so far
+ * @param rows     the number of data rows read so far
+ * @param rejected the number of rows rejected so far
+ */
+public record ImportProgress(long bytes, long rows, long rejected) {
+}
@@ -0,0 +1,17 @@
+package io.taf.imports;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.List;
+
+/**
+ * Outcome of a completed import.
+ *
+ * @param rows     the number of data rows read
+ * @param inserted the number of inserted entities
+ * @param updated  the number of updated entities
+ * @param rejected the number of rows rejected by conversion or validation
+ * @param errors   the messages of the first rejected rows
+ */
+public record ImportResult(long rows, long inserted, long updated, long rejected, @Nonnull List<String> errors) {
+}
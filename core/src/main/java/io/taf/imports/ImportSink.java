@@ -0,0 +1,41 @@
+package io.taf.imports;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.List;
+
+/**
+ * Receives the validated entities of one import. It is opened, written and finished within the import
+ * transaction; entities written later replace earlier ones with the same key.
+ *
+ * @param <ENTITY> the entity type
+ */
+public interface ImportSink<ENTITY> extends AutoCloseable {
+
+    /**
+     * @param entities the next batch of validated entities, in file order
+     */
+    void write(@Nonnull List<ENTITY> entities);
+
+    /**
+     * Completes the import, so all written entities are in the table when the transaction commits.
+     *
+     * @return the numbers of inserted and updated entities
+     */
+    @Nonnull
+    Counts finish();
+
+    /**
+     * Releases the resources of the sink, also if it has not been finished.
+     */
+    @Override
+    void close();
+
+    /**
+     * @param inserted the number of inserted entities
+     * @param updated  the number of updated entities
+     */
+    record Counts(long inserted, long updated) {
+    }
+
+}
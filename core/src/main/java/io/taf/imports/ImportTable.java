@@ -0,0 +1,32 @@
+package io.taf.imports;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * Table an import writes into. Rows are matched with the existing ones by the key column; matching rows
+ * get the updated columns overwritten, the others are inserted with all columns.
+ *
+ * @param entityClass    the entity class
+ * @param name           the physical table name
+ * @param idColumn       the identifier column name
+ * @param idSequence     the sequence generating the identifiers, null if they are not generated by a sequence
+ *                       whose values can be turned into identifier blocks
+ * @param idIncrement    the number of identifiers a value of the sequence stands for
+ * @param idOffset       the offset of the first identifier of a block from the sequence value
+ * @param idGenerated    whether the identifiers are generated by the database on insert
+ * @param versionColumn  the version column name, null if the entity is not versioned
+ * @param key            the column matching imported and existing rows
+ * @param columns        the insertable columns, including the key
+ * @param updatedColumns the columns present in the imported file, excluding the key
+ * @param <ENTITY>       the entity type
+ */
+public record ImportTable<ENTITY>(@Nonnull Class<ENTITY> entityClass, @Nonnull String name,
+                                  @Nonnull String idColumn, @Nullable String idSequence, int idIncrement,
+                                  int idOffset, boolean idGenerated,
+                                  @Nullable String versionColumn, @Nonnull ImportColumn<ENTITY> key,
+                                  @Nonnull List<ImportColumn<ENTITY>> columns,
+                                  @Nonnull List<ImportColumn<ENTITY>> updatedColumns) {
+}
@@ -19,25 +19,25 @@ import com.vaadin.flow.component.shared.Tooltip;
 import com.vaadin.flow.component.sidenav.SideNav;
 import com.vaadin.flow.component.sidenav.SideNavItem;
 import com.vaadin.flow.router.PageTitle;
-import com.vaadin.flow.router.Route;
 import com.vaadin.flow.theme.lumo.LumoIcon;
 import com.vaadin.flow.theme.lumo.LumoUtility;
-import io.taf.sections.SectionsHolder;
 import io.taf.utils.MessageProvider;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.i18n.LocaleContextHolder;
 
 import java.util.LinkedList;
+import java.util.Locale;
 import java.util.Optional;
 
 @RequiredArgsConstructor
 public class DefaultAppLayout extends AppLayout {
 
     @Autowired
-    private final SectionsHolder sectionsHolder;
+    private final NavigationModel navigationModel;
 
     @Autowired
     private final MessageProvider messageProvider;
@@ -96,35 +96,15 @@ public class DefaultAppLayout extends AppLayout {
         return container;
     }
 
-    @SuppressWarnings("unchecked")
     protected Component initApplicationNavigation() {
 
+        var locale = LocaleContextHolder.getLocale();
         var sideNav = new SideNav();
-        sectionsHolder.getSections().stream()
-                .filter(section -> section.isVisible())
-                .forEach(section -> {
-                    var item = new SideNavItem(section.getTitle());
-
-                    Optional.ofNullable(section.getTooltip()).ifPresent(text ->
-                            Tooltip.forComponent(item)
-                                    .withText(text));
-
-                    section.getContent().forEach(element -> {
-                        var view = element.getViewClass();
-                        var subItem = new SideNavItem(element.getTitle());
-                        if (view.isAnnotationPresent(Route.class)) {
-                            subItem.setPath(view);
-                        }
-
-                        Optional.ofNullable(element.getTooltip()).ifPresent(text ->
-                                Tooltip.forComponent(subItem)
-                                        .withText(text));
-
-                        item.addItem(subItem);
-                    });
-
-                    sideNav.addItem(item);
-                });
+        navigationModel.getSections().forEach(section -> {
+            var item = createNavigationItem(section, locale);
+            section.getChildren().forEach(element -> item.addItem(createNavigationItem(element, locale)));
+            sideNav.addItem(item);
+        });
 
         var scroller = new Scroller();
         scroller.setScrollDirection(Scroller.ScrollDirection.VERTICAL);
@@ -133,6 +113,16 @@ public class DefaultAppLayout extends AppLayout {
         return scroller;
     }
 
+    @Nonnull
+    protected SideNavItem createNavigationItem(@Nonnull NavigationModel.Node node, @Nonnull Locale locale) {
+        var item = new SideNavItem(node.getTitle(locale));
+        Optional.ofNullable(node.getPath()).ifPresent(item::setPath);
+        Optional.ofNullable(node.getTooltip(locale)).ifPresent(text ->
+                Tooltip.forComponent(item)
+                        .withText(text));
+        return item;
+    }
+
     // Navbar
 
     protected void initNavbar() {
@@ -0,0 +1,137 @@
+package io.taf.layouts;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.router.Route;
+import io.taf.meta.MetaElement;
+import io.taf.meta.MetaObject;
+import io.taf.sections.Section;
+import io.taf.sections.SectionsHolder;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Application navigation: the visible sections and their meta elements in display order. The model is
+ * computed once when the context is refreshed and shared by all UIs, which only create the navigation
+ * components from it. Titles and tooltips are resolved once per locale.
+ */
+@org.springframework.stereotype.Component
+@RequiredArgsConstructor
+public class NavigationModel {
+
+    private final SectionsHolder sectionsHolder;
+
+    private volatile List<Node> sections;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void refresh() {
+        sections = build();
+    }
+
+    /**
+     * @return the visible sections in display order
+     */
+    @Nonnull
+    public List<Node> getSections() {
+        var result = sections;
+        if (result == null) {
+            result = build();
+            sections = result;
+        }
+        return result;
+    }
+
+    @Nonnull
+    private List<Node> build() {
+        return sectionsHolder.getSections().stream()
+                .filter(Section::isVisible)
+                .map(section -> new Node(section, null, section.getContent().stream()
+                        .map(this::createElementNode)
+                        .toList()))
+                .toList();
+    }
+
+    @Nonnull
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Node createElementNode(@Nonnull MetaElement element) {
+        Class<? extends Component> view = element.getViewClass();
+        return new Node(element, view.isAnnotationPresent(Route.class) ? view : null, List.of());
+    }
+
+    /**
+     * Navigation item of a section or a meta element.
+     */
+    public static final class Node {
+
+        private final MetaObject object;
+
+        private final Class<? extends Component> path;
+
+        private final List<Node> children;
+
+        private final Map<Locale, Texts> texts = new ConcurrentHashMap<>();
+
+        private Node(@Nonnull MetaObject object, @Nullable Class<? extends Component> path, @Nonnull List<Node> children) {
+            this.object = object;
+            this.path = path;
+            this.children = children;
+        }
+
+        @Nonnull
+        public MetaObject getObject() {
+            return object;
+        }
+
+        /**
+         * @return the routed view to navigate to, or null if the item is not navigable
+         */
+        @Nullable
+        public Class<? extends Component> getPath() {
+            return path;
+        }
+
+        @Nonnull
+        public List<Node> getChildren() {
+            return children;
+        }
+
+        @Nonnull
+        public String getTitle(@Nonnull Locale locale) {
+            return getTexts(locale).title();
+        }
+
+        @Nullable
+        public String getTooltip(@Nonnull Locale locale) {
+            return getTexts(locale).tooltip();
+        }
+
+        @Nonnull
+        private Texts getTexts(@Nonnull Locale locale) {
+            return texts.computeIfAbsent(locale, this::resolveTexts);
+        }
+
+        @Nonnull
+        private Texts resolveTexts(@Nonnull Locale locale) {
+            var localeContext = LocaleContextHolder.getLocaleContext();
+            LocaleContextHolder.setLocale(locale);
+            try {
+                return new Texts(object.getTitle(), object.getTooltip());
+            } finally {
+                LocaleContextHolder.setLocaleContext(localeContext);
+            }
+        }
+
+    }
+
+    private record Texts(@Nonnull String title, @Nullable String tooltip) {
+    }
+
+}
@@ -0,0 +1,22 @@
+package io.taf.meta;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the identifier allocation of the entity of a data meta element. Put it on the meta element.
+ * Entities without it allocate {@code taf.id.allocation-size} identifiers per sequence call.
+ * The increment of an existing sequence has to be changed together with the allocation size.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface IdSequence {
+
+    /**
+     * @return the number of identifiers allocated with one sequence call, also the increment of the sequence
+     */
+    int allocationSize();
+
+}
@@ -0,0 +1,34 @@
+package io.taf.meta;
+
+import jakarta.annotation.Nonnull;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Registry of the entities with an {@link IdSequence} declared on their meta element.
+ */
+@Component
+public class IdSequenceRegistry extends MetaAnnotationRegistry<IdSequence> {
+
+    public IdSequenceRegistry(@Nonnull ListableBeanFactory beanFactory) {
+        super(beanFactory, IdSequence.class);
+    }
+
+    /**
+     * @return the sequence settings by entity class
+     */
+    @Nonnull
+    public Map<Class<?>, IdSequence> getSequences() {
+        return getAnnotations();
+    }
+
+    @Override
+    protected void validate(@Nonnull Class<?> type, @Nonnull IdSequence annotation) {
+        if (annotation.allocationSize() < 1) {
+            throw new IllegalStateException("@IdSequence allocation size has to be positive: " + type.getName());
+        }
+    }
+
+}
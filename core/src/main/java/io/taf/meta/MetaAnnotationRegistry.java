@@ -0,0 +1,81 @@
+package io.taf.meta;
+
+import io.taf.utils.GenericUtils;
+import jakarta.annotation.Nonnull;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registry of an annotation declared on data meta elements, keyed by the entity class of the meta element.
+ * The annotations are read from the bean definitions of the meta elements without creating them, so the registry
+ * is available while the entity manager factory is built.
+ *
+ * @param <A> the annotation type
+ */
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public abstract class MetaAnnotationRegistry<A extends Annotation> {
+
+    private final ListableBeanFactory beanFactory;
+
+    private final Class<A> annotationType;
+
+    private volatile Map<Class<?>, A> annotations;
+
+    /**
+     * @return the annotations by entity class
+     */
+    @Nonnull
+    public Map<Class<?>, A> getAnnotations() {
+        var result = annotations;
+        if (result == null) {
+            result = createAnnotations();
+            annotations = result;
+        }
+        return result;
+    }
+
+    @Nonnull
+    public Optional<A> find(@Nonnull Class<?> entityClass) {
+        return Optional.ofNullable(getAnnotations().get(entityClass));
+    }
+
+    /**
+     * Checks that the annotation is supported on the meta element. Any data meta element is accepted by default.
+     *
+     * @param type       the meta element class
+     * @param annotation the annotation declared on it
+     * @throws IllegalStateException if the annotation is not supported
+     */
+    protected void validate(@Nonnull Class<?> type, @Nonnull A annotation) {
+    }
+
+    @Nonnull
+    private Map<Class<?>, A> createAnnotations() {
+        var result = new HashMap<Class<?>, A>();
+        for (var name : beanFactory.getBeanNamesForAnnotation(annotationType)) {
+            var type = Optional.ofNullable(beanFactory.getType(name))
+                    .map(ClassUtils::getUserClass)
+                    .orElseThrow();
+            if (!AbstractDataMetaElement.class.isAssignableFrom(type)) {
+                throw new IllegalStateException("@" + annotationType.getSimpleName()
+                        + " is only supported on data meta elements: " + type.getName());
+            }
+            var annotation = AnnotatedElementUtils.findMergedAnnotation(type, annotationType);
+            if (annotation == null) {
+                continue;
+            }
+            validate(type, annotation);
+            result.put(GenericUtils.getType(type, AbstractDataMetaElement.class, 2), annotation);
+        }
+        return Map.copyOf(result);
+    }
+
+}
@@ -0,0 +1,138 @@
+package io.taf.meta;
+
+import io.taf.sections.AssignSection;
+import io.taf.sections.Section;
+import jakarta.annotation.Nonnull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.OrderComparator;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registry of the meta elements. Maps the entity class, the list view class and the item view class to the data
+ * meta element, the identifier class to the data meta elements using it, and a section class to the meta elements
+ * assigned to it. The registry is built once when the context is refreshed and is immutable afterward.
+ */
+@Component
+@SuppressWarnings("rawtypes")
+public class MetaRegistry {
+
+    @Autowired
+    private final List<MetaElement> metaElements = new ArrayList<>();
+
+    private volatile Registry registry;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void refresh() {
+        registry = createRegistry();
+    }
+
+    /**
+     * @return all meta elements sorted by order
+     */
+    @Nonnull
+    public List<MetaElement> getMetaElements() {
+        return getRegistry().elements();
+    }
+
+    @Nonnull
+    public Optional<DataMetaElement> findByEntityClass(@Nonnull Class<?> entityClass) {
+        return Optional.ofNullable(getRegistry().byEntityClass().get(entityClass));
+    }
+
+    @Nonnull
+    public Optional<DataMetaElement> findByListViewClass(@Nonnull Class<?> listViewClass) {
+        return Optional.ofNullable(getRegistry().byListViewClass().get(listViewClass));
+    }
+
+    @Nonnull
+    public Optional<DataMetaElement> findByItemViewClass(@Nonnull Class<?> itemViewClass) {
+        return Optional.ofNullable(getRegistry().byItemViewClass().get(itemViewClass));
+    }
+
+    /**
+     * Finds the data meta element by its list view class or item view class.
+     *
+     * @param viewClass the view class
+     * @return the data meta element or empty if the view does not belong to a data meta element
+     */
+    @Nonnull
+    public Optional<DataMetaElement> findByViewClass(@Nonnull Class<?> viewClass) {
+        return findByListViewClass(viewClass).or(() -> findByItemViewClass(viewClass));
+    }
+
+    @Nonnull
+    public List<DataMetaElement> findByIdClass(@Nonnull Class<?> idClass) {
+        return getRegistry().byIdClass().getOrDefault(idClass, List.of());
+    }
+
+    /**
+     * Returns the meta elements assigned to the section with {@link AssignSection}.
+     *
+     * @param sectionClass the section class
+     * @return the meta elements sorted by order
+     */
+    @Nonnull
+    public List<MetaElement> getSectionContent(@Nonnull Class<? extends Section> sectionClass) {
+        return getRegistry().bySection().getOrDefault(sectionClass, List.of());
+    }
+
+    @Nonnull
+    private Registry getRegistry() {
+        var result = registry;
+        if (result == null) {
+            result = createRegistry();
+            registry = result;
+        }
+        return result;
+    }
+
+    @Nonnull
+    private Registry createRegistry() {
+        var sorted = new ArrayList<>(metaElements);
+        sorted.sort(OrderComparator.INSTANCE);
+
+        var byEntityClass = new HashMap<Class<?>, DataMetaElement>();
+        var byListViewClass = new HashMap<Class<?>, DataMetaElement>();
+        var byItemViewClass = new HashMap<Class<?>, DataMetaElement>();
+        var byIdClass = new HashMap<Class<?>, List<DataMetaElement>>();
+        var bySection = new HashMap<Class<?>, List<MetaElement>>();
+
+        sorted.forEach(element -> {
+            if (element instanceof DataMetaElement dataElement) {
+                byEntityClass.putIfAbsent(dataElement.getEntityClass(), dataElement);
+                byListViewClass.putIfAbsent(dataElement.getListViewClass(), dataElement);
+                byItemViewClass.putIfAbsent(dataElement.getItemViewClass(), dataElement);
+                byIdClass.computeIfAbsent(dataElement.getIdClass(), cls -> new ArrayList<>()).add(dataElement);
+            }
+            AnnotatedElementUtils.findMergedRepeatableAnnotations(ClassUtils.getUserClass(element), AssignSection.class)
+                    .forEach(annotation -> bySection.computeIfAbsent(annotation.value(), cls -> new ArrayList<>()).add(element));
+        });
+
+        var idClasses = new HashMap<Class<?>, List<DataMetaElement>>();
+        byIdClass.forEach((cls, elements) -> idClasses.put(cls, List.copyOf(elements)));
+        var sections = new HashMap<Class<?>, List<MetaElement>>();
+        bySection.forEach((cls, elements) -> sections.put(cls, List.copyOf(elements)));
+
+        return new Registry(List.copyOf(sorted), Map.copyOf(byEntityClass), Map.copyOf(byListViewClass),
+                Map.copyOf(byItemViewClass), Map.copyOf(idClasses), Map.copyOf(sections));
+    }
+
+    private record Registry(@Nonnull List<MetaElement> elements,
+                            @Nonnull Map<Class<?>, DataMetaElement> byEntityClass,
+                            @Nonnull Map<Class<?>, DataMetaElement> byListViewClass,
+                            @Nonnull Map<Class<?>, DataMetaElement> byItemViewClass,
+                            @Nonnull Map<Class<?>, List<DataMetaElement>> byIdClass,
+                            @Nonnull Map<Class<?>, List<MetaElement>> bySection) {
+    }
+
+}
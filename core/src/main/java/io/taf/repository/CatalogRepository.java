@@ -3,6 +3,7 @@ package io.taf.repository;
 import io.taf.catalogs.CatalogEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.query.Param;
@@ -13,12 +14,20 @@ import java.io.Serializable;
 public interface CatalogRepository<ENTITY extends CatalogEntity<ID>, ID extends Serializable>
         extends DataRepository<ENTITY, ID> {
 
-    @Override
-    @Query(value = "select s from #{#entityName} s " +
-            "where " +
-            "lower(cast(s.id as string)) like lower(concat('%', :filterText, '%')) or " +
+    String CATALOG_FILTER_CONDITION = "lower(cast(s.id as string)) like lower(concat('%', :filterText, '%')) or " +
             "lower(s.code) like lower(concat('%', :filterText, '%')) or " +
-            "lower(s.title) like lower(concat('%', :filterText, '%'))")
+            "lower(s.title) like lower(concat('%', :filterText, '%'))";
+
+    @Override
+    @Query(value = "select s from #{#entityName} s where " + CATALOG_FILTER_CONDITION)
     Page<ENTITY> findAllBy(Pageable pageable, @Param("filterText") String filterText);
 
+    @Override
+    @Query(value = "select s from #{#entityName} s where " + CATALOG_FILTER_CONDITION)
+    Slice<ENTITY> findSliceBy(Pageable pageable, @Param("filterText") String filterText);
+
+    @Override
+    @Query(value = "select count(s) from #{#entityName} s where " + CATALOG_FILTER_CONDITION)
+    long countAllBy(@Param("filterText") String filterText);
+
 }
@@ -1,21 +1,93 @@
 package io.taf.repository;
 
 import io.taf.entity.DataEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.query.Param;
 
 import java.io.Serializable;
+import java.util.Collection;
 
 @NoRepositoryBean
 public interface DataRepository<ENTITY extends DataEntity<ID>, ID extends Serializable>
-        extends Repository<ENTITY, ID> {
+        extends Repository<ENTITY, ID>, JpaSpecificationExecutor<ENTITY> {
 
-    @Query(value = "select s from #{#entityName} s " +
-            "where " +
-            "lower(cast(s.id as string)) like lower(concat('%', :filterText, '%'))")
+    String FILTER_CONDITION = "lower(cast(s.id as string)) like lower(concat('%', :filterText, '%'))";
+
+    @Query(value = "select s from #{#entityName} s where " + FILTER_CONDITION)
     Page<ENTITY> findAllBy(Pageable pageable, @Param("filterText") String filterText);
 
+    /**
+     * Finds a slice of entities. Unlike a page, a slice only knows whether there is a next slice,
+     * so no count query is executed.
+     *
+     * @param pageable the page request
+     * @return the slice of entities
+     */
+    Slice<ENTITY> findSliceBy(Pageable pageable);
+
+    @Query(value = "select s from #{#entityName} s where " + FILTER_CONDITION)
+    Slice<ENTITY> findSliceBy(Pageable pageable, @Param("filterText") String filterText);
+
+    @Query(value = "select count(s) from #{#entityName} s where " + FILTER_CONDITION)
+    long countAllBy(@Param("filterText") String filterText);
+
+    /**
+     * Sets the deletion mark of the entities with one update statement, without loading them.
+     *
+     * @param ids          the identifiers of the entities
+     * @param deletionMark the new deletion mark
+     * @return the number of updated entities
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update #{#entityName} s set s.deletionMark = :deletionMark, s.version = s.version + 1 where s.id in :ids")
+    int setDeletionMark(@Param("ids") Collection<ID> ids, @Param("deletionMark") boolean deletionMark);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update #{#entityName} s set s.deletionMark = :deletionMark, s.version = s.version + 1 where " + FILTER_CONDITION)
+    int setDeletionMarkBy(@Param("filterText") String filterText, @Param("deletionMark") boolean deletionMark);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update #{#entityName} s set s.deletionMark = case when s.deletionMark = true then false else true end, s.version = s.version + 1 where s.id in :ids")
+    int toggleDeletionMark(@Param("ids") Collection<ID> ids);
+
+    /**
+     * Sets the draft mark of the entities with one update statement, without loading them.
+     *
+     * @param ids       the identifiers of the entities
+     * @param draftMark the new draft mark
+     * @return the number of updated entities
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update #{#entityName} s set s.draftMark = :draftMark, s.version = s.version + 1 where s.id in :ids")
+    int setDraftMark(@Param("ids") Collection<ID> ids, @Param("draftMark") boolean draftMark);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update #{#entityName} s set s.draftMark = :draftMark, s.version = s.version + 1 where " + FILTER_CONDITION)
+    int setDraftMarkBy(@Param("filterText") String filterText, @Param("draftMark") boolean draftMark);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update #{#entityName} s set s.draftMark = case when s.draftMark = true then false else true end, s.version = s.version + 1 where s.id in :ids")
+    int toggleDraftMark(@Param("ids") Collection<ID> ids);
+
+    /**
+     * Scrolls through the entities starting from the given position. A keyset position makes the database
+     * seek by the last seen sort key (and the identifier as a tiebreaker) instead of skipping rows with an offset.
+     *
+     * @param position the position to continue from, {@link ScrollPosition#keyset()} for the first window
+     * @param sort     the sort order, the identifier is appended by Spring Data to keep the key unique
+     * @param limit    the maximum size of the window
+     * @return the window of entities
+     */
+    Window<ENTITY> findWindowBy(ScrollPosition position, Sort sort, Limit limit);
+
 }
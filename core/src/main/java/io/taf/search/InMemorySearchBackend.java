@@ -0,0 +1,172 @@
+package io.taf.search;
+
+import io.taf.catalogs.CatalogEntity;
+import io.taf.entity.AbstractEntity;
+import io.taf.service.CatalogService;
+import jakarta.annotation.Nonnull;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Embedded search backend intended for H2 and test runs. Every catalog gets an {@link InMemorySearchIndex}
+ * built from all its entities the first time it is searched and kept up to date by the catalog service
+ * afterwards. The database only receives an identifier lookup. Like {@link LikeSearchBackend}, the searchable
+ * attributes are matched as substrings and the identifier by equality.
+ */
+public class InMemorySearchBackend extends LikeSearchBackend {
+
+    private static final String DOCUMENT_DELIMITER = "\u0000";
+
+    private final Map<Class<?>, CatalogIndex> indexes = new ConcurrentHashMap<>();
+
+    @Nonnull
+    @Override
+    public <ENTITY extends CatalogEntity<ID>, ID extends Serializable> Specification<ENTITY> createSpecification(
+            @Nonnull CatalogService<ENTITY, ID> service, @Nonnull String filter) {
+
+        var ids = getIndex(service).search(filter);
+        var id = convertId(service, filter);
+
+        return (root, query, builder) -> {
+            var predicates = new ArrayList<Predicate>();
+            if (!ids.isEmpty()) {
+                predicates.add(root.get(AbstractEntity.Fields.id).in(ids));
+            }
+            id.ifPresent(value -> predicates.add(builder.equal(root.get(AbstractEntity.Fields.id), value)));
+            return builder.or(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    @Override
+    public <ENTITY extends CatalogEntity<ID>, ID extends Serializable> void index(
+            @Nonnull CatalogService<ENTITY, ID> service, @Nonnull ENTITY entity) {
+        var id = Objects.requireNonNull(entity.getId());
+        var document = toDocument(entity);
+        Optional.ofNullable(indexes.get(service.getEntityClass()))
+                .ifPresent(index -> index.update(searchIndex -> searchIndex.put(id, document)));
+    }
+
+    @Override
+    public <ENTITY extends CatalogEntity<ID>, ID extends Serializable> void remove(
+            @Nonnull CatalogService<ENTITY, ID> service, @Nonnull ID id) {
+        Optional.ofNullable(indexes.get(service.getEntityClass()))
+                .ifPresent(index -> index.update(searchIndex -> searchIndex.remove(id)));
+    }
+
+    /**
+     * Drops the index of the catalog, it is built again the next time the catalog is searched.
+     */
+    @Override
+    public <ENTITY extends CatalogEntity<ID>, ID extends Serializable> void invalidate(
+            @Nonnull CatalogService<ENTITY, ID> service) {
+        indexes.remove(service.getEntityClass());
+    }
+
+    /**
+     * Returns the index of the catalog, building it on the calling thread if the catalog has none yet. Concurrent
+     * searches of the same catalog wait for that build instead of starting their own, and updates notified
+     * during the build are applied once it has loaded the entities.
+     *
+     * @param service the service of the catalog
+     * @return the built index
+     */
+    @Nonnull
+    protected <ENTITY extends CatalogEntity<ID>, ID extends Serializable> InMemorySearchIndex getIndex(
+            @Nonnull CatalogService<ENTITY, ID> service) {
+        var cls = service.getEntityClass();
+        var index = indexes.get(cls);
+        if (index == null) {
+            var created = new CatalogIndex(searchIndex -> buildIndex(service, searchIndex));
+            index = Optional.ofNullable(indexes.putIfAbsent(cls, created)).orElse(created);
+        }
+        try {
+            return index.get();
+        } catch (RuntimeException e) {
+            // Searched again, the catalog gets a new build
+            indexes.remove(cls, index);
+            throw e;
+        }
+    }
+
+    protected <ENTITY extends CatalogEntity<ID>, ID extends Serializable> void buildIndex(
+            @Nonnull CatalogService<ENTITY, ID> service, @Nonnull InMemorySearchIndex index) {
+        service.getRepository().findAll().forEach(entity -> index.put(Objects.requireNonNull(entity.getId()), toDocument(entity)));
+    }
+
+    @Nonnull
+    protected String toDocument(@Nonnull CatalogEntity<?> entity) {
+        return getSearchFields(entity.getClass()).stream()
+                .map(field -> {
+                    ReflectionUtils.makeAccessible(field);
+                    return ReflectionUtils.getField(field, entity);
+                })
+                .filter(Objects::nonNull)
+                .map(Object::toString)
+                .collect(Collectors.joining(DOCUMENT_DELIMITER));
+    }
+
+    /**
+     * Index of one catalog together with its build. Until the build has loaded the entities, updates are
+     * buffered, so an update committed after the entities were read is not overwritten by the stale state.
+     */
+    private static final class CatalogIndex {
+
+        private final InMemorySearchIndex index = new InMemorySearchIndex();
+
+        private final FutureTask<InMemorySearchIndex> build;
+
+        private List<Consumer<InMemorySearchIndex>> pending = new ArrayList<>();
+
+        CatalogIndex(@Nonnull Consumer<InMemorySearchIndex> loader) {
+            build = new FutureTask<>(() -> {
+                loader.accept(index);
+                synchronized (this) {
+                    pending.forEach(update -> update.accept(index));
+                    pending = null;
+                }
+                return index;
+            });
+        }
+
+        @Nonnull
+        InMemorySearchIndex get() {
+            // Runs the build on the first caller, the others wait for its result
+            build.run();
+            try {
+                return build.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while building the search index", e);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException cause
+                        ? cause
+                        : new IllegalStateException("Cannot build the search index", e.getCause());
+            }
+        }
+
+        void update(@Nonnull Consumer<InMemorySearchIndex> update) {
+            synchronized (this) {
+                if (pending != null) {
+                    pending.add(update);
+                    return;
+                }
+            }
+            update.accept(index);
+        }
+
+    }
+
+}
@@ -0,0 +1,112 @@
+package io.taf.search;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index mapping every trigram of the indexed text to the identifiers of the documents
+ * containing it. A substring query intersects the posting lists of its trigrams and verifies the candidates,
+ * queries shorter than a trigram are answered by scanning the documents.
+ */
+public class InMemorySearchIndex {
+
+    private static final int GRAM_SIZE = 3;
+
+    private final Map<Object, String> documents = new HashMap<>();
+
+    private final Map<String, Set<Object>> postings = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(@Nonnull Object id, @Nonnull String text) {
+        var document = text.toLowerCase();
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            documents.put(id, document);
+            grams(document).forEach(gram -> postings.computeIfAbsent(gram, g -> new HashSet<>()).add(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(@Nonnull Object id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the identifiers of the documents containing the query as a case-insensitive substring.
+     *
+     * @param query the query text
+     * @return the identifiers of the matching documents
+     */
+    @Nonnull
+    public Set<Object> search(@Nonnull String query) {
+        var term = query.toLowerCase();
+        lock.readLock().lock();
+        try {
+            if (term.length() < GRAM_SIZE) {
+                return scan(documents.keySet(), term);
+            }
+
+            var candidates = grams(term).stream()
+                    .map(gram -> postings.getOrDefault(gram, Set.of()))
+                    .min(Comparator.comparingInt(Set::size))
+                    .orElseGet(Set::of);
+            return scan(candidates, term);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Nonnull
+    private Set<Object> scan(@Nonnull Collection<Object> ids, @Nonnull String term) {
+        var result = new HashSet<>();
+        ids.forEach(id -> {
+            if (documents.get(id).contains(term)) {
+                result.add(id);
+            }
+        });
+        return result;
+    }
+
+    private void removeDocument(@Nonnull Object id) {
+        Optional.ofNullable(documents.remove(id)).ifPresent(document ->
+                grams(document).forEach(gram -> {
+                    var ids = postings.get(gram);
+                    if (ids != null) {
+                        ids.remove(id);
+                        if (ids.isEmpty()) {
+                            postings.remove(gram);
+                        }
+                    }
+                }));
+    }
+
+    @Nonnull
+    private Set<String> grams(@Nonnull String text) {
+        var grams = new HashSet<String>();
+        for (var i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+}
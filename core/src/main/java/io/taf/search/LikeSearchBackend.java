@@ -0,0 +1,74 @@
+package io.taf.search;
+
+import io.taf.catalogs.CatalogEntity;
+import io.taf.entity.AbstractEntity;
+import io.taf.service.CatalogService;
+import jakarta.annotation.Nonnull;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Matches the {@link SearchField searchable} attributes with {@code lower(attribute) like '%filter%'}
+ * and the identifier by equality. Works on any database, but without a suitable index every search
+ * is a sequential scan.
+ */
+public class LikeSearchBackend implements SearchBackend {
+
+    private static final char ESCAPE_CHAR = '\\';
+
+    private final Map<Class<?>, List<Field>> searchFields = new ConcurrentHashMap<>();
+
+    @Nonnull
+    @Override
+    public <ENTITY extends CatalogEntity<ID>, ID extends Serializable> Specification<ENTITY> createSpecification(
+            @Nonnull CatalogService<ENTITY, ID> service, @Nonnull String filter) {
+
+        var fields = getSearchFields(service.getEntityClass());
+        var pattern = "%" + escape(filter.toLowerCase()) + "%";
+        var id = convertId(service, filter);
+
+        return (root, query, builder) -> {
+            var predicates = new ArrayList<Predicate>();
+            fields.forEach(field -> predicates.add(
+                    builder.like(builder.lower(root.<String>get(field.getName())), pattern, ESCAPE_CHAR)));
+            id.ifPresent(value -> predicates.add(builder.equal(root.get(AbstractEntity.Fields.id), value)));
+            return builder.or(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    @Nonnull
+    protected List<Field> getSearchFields(@Nonnull Class<?> cls) {
+        return searchFields.computeIfAbsent(cls, c -> {
+            var fields = new ArrayList<Field>();
+            ReflectionUtils.doWithFields(c, fields::add, field -> field.isAnnotationPresent(SearchField.class));
+            return List.copyOf(fields);
+        });
+    }
+
+    @Nonnull
+    protected <ENTITY extends CatalogEntity<ID>, ID extends Serializable> Optional<ID> convertId(
+            @Nonnull CatalogService<ENTITY, ID> service, @Nonnull String filter) {
+        try {
+            return Optional.of(service.convertId(filter.trim()));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    @Nonnull
+    private String escape(@Nonnull String value) {
+        return value.replace(String.valueOf(ESCAPE_CHAR), String.valueOf(ESCAPE_CHAR) + ESCAPE_CHAR)
+                .replace("%", ESCAPE_CHAR + "%")
+                .replace("_", ESCAPE_CHAR + "_");
+    }
+
+}
@@ -0,0 +1,56 @@
+package io.taf.search;
+
+import io.taf.catalogs.CatalogEntity;
+import io.taf.service.CatalogService;
+import jakarta.annotation.Nonnull;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.io.Serializable;
+
+/**
+ * Resolves the catalog filter text into a query specification. Implementations decide how the
+ * {@link SearchField searchable} attributes are matched and may maintain their own index.
+ */
+public interface SearchBackend {
+
+    /**
+     * Creates the specification selecting the catalog entities matching the filter.
+     *
+     * @param service the service of the catalog being searched
+     * @param filter  the non-blank filter text
+     * @return the specification of the matching entities
+     */
+    @Nonnull
+    <ENTITY extends CatalogEntity<ID>, ID extends Serializable> Specification<ENTITY> createSpecification(
+            @Nonnull CatalogService<ENTITY, ID> service, @Nonnull String filter);
+
+    /**
+     * Notifies the backend that the entity has been created or updated.
+     *
+     * @param service the service of the catalog
+     * @param entity  the saved entity
+     */
+    default <ENTITY extends CatalogEntity<ID>, ID extends Serializable> void index(
+            @Nonnull CatalogService<ENTITY, ID> service, @Nonnull ENTITY entity) {
+    }
+
+    /**
+     * Notifies the backend that the entity has been deleted.
+     *
+     * @param service the service of the catalog
+     * @param id      the identifier of the deleted entity
+     */
+    default <ENTITY extends CatalogEntity<ID>, ID extends Serializable> void remove(
+            @Nonnull CatalogService<ENTITY, ID> service, @Nonnull ID id) {
+    }
+
+    /**
+     * Notifies the backend that the catalog has been changed in bulk, bypassing the entity notifications.
+     *
+     * @param service the service of the catalog
+     */
+    default <ENTITY extends CatalogEntity<ID>, ID extends Serializable> void invalidate(
+            @Nonnull CatalogService<ENTITY, ID> service) {
+    }
+
+}
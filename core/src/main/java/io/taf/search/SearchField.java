@@ -0,0 +1,16 @@
+package io.taf.search;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a string attribute of a catalog entity as searchable by the catalog filter.
+ * The configured {@link SearchBackend} matches the filter text as a case-insensitive substring
+ * of every marked attribute and as an exact identifier.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SearchField {
+}
@@ -0,0 +1,33 @@
+package io.taf.search;
+
+import io.taf.catalogs.CatalogEntity;
+import jakarta.annotation.Nonnull;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Type;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+/**
+ * Creates the trigram indexes of all catalog entities once the application has started. Enabled by
+ * {@code taf.search.trigram.create-indexes=true} for databases that are not managed by migrations. A failure
+ * stops the application instead of leaving the searches on sequential scans unnoticed.
+ */
+@RequiredArgsConstructor
+public class TrigramIndexInitializer implements ApplicationRunner {
+
+    @Nonnull
+    private final TrigramSearchBackend searchBackend;
+
+    @Nonnull
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        entityManagerFactory.getMetamodel().getEntities().stream()
+                .map(Type::getJavaType)
+                .filter(CatalogEntity.class::isAssignableFrom)
+                .forEach(searchBackend::createIndexes);
+    }
+
+}
@@ -0,0 +1,71 @@
+package io.taf.search;
+
+import io.taf.utils.EntityUtils;
+import jakarta.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL search backend. Keeps the substring semantics of {@link LikeSearchBackend}; every
+ * {@link SearchField searchable} column should be covered by a {@code pg_trgm} GIN index on {@code lower(column)},
+ * so PostgreSQL can serve {@code like '%filter%'} with a bitmap index scan instead of a sequential scan.
+ * Searching never changes the schema: the indexes belong to the database migrations, or are created at startup
+ * by {@link TrigramIndexInitializer} when {@code taf.search.trigram.create-indexes} is enabled.
+ */
+@Slf4j
+public class TrigramSearchBackend extends LikeSearchBackend {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TrigramSearchBackend(@Nonnull DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Creates the {@code pg_trgm} extension and the missing trigram indexes of the searchable columns of the entity.
+     * The indexes are built concurrently, so this must not run inside a transaction.
+     *
+     * @param cls the catalog entity class
+     * @throws IllegalStateException if a table or column name is not a plain identifier, or an index was left
+     *                               invalid by a failed build
+     * @throws DataAccessException   if a statement fails
+     */
+    public void createIndexes(@Nonnull Class<?> cls) {
+        var fields = getSearchFields(cls);
+        if (fields.isEmpty()) {
+            return;
+        }
+
+        var table = checkIdentifier(EntityUtils.getTableName(cls));
+        jdbcTemplate.execute("create extension if not exists pg_trgm");
+        fields.forEach(field -> {
+            var column = checkIdentifier(EntityUtils.getColumnName(field));
+            var index = table + "_" + column + "_trgm_idx";
+            log.info("Creating trigram index {} if it does not exist", index);
+            jdbcTemplate.execute("create index concurrently if not exists " + index + " on " + table
+                    + " using gin (lower(" + column + ") gin_trgm_ops)");
+
+            // A failed concurrent build leaves an invalid index that "if not exists" would keep skipping
+            var valid = jdbcTemplate.queryForObject(
+                    "select indisvalid from pg_index where indexrelid = cast(? as regclass)", Boolean.class, index);
+            if (!Boolean.TRUE.equals(valid)) {
+                throw new IllegalStateException("Trigram index " + index + " is invalid, drop it and restart");
+            }
+        });
+    }
+
+    @Nonnull
+    private String checkIdentifier(@Nonnull String name) {
+        if (!IDENTIFIER.matcher(name).matches()) {
+            throw new IllegalStateException("Cannot create a trigram index for the identifier " + name);
+        }
+        return name;
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.taf.sections;
 
 import io.taf.meta.MetaElement;
+import io.taf.meta.MetaRegistry;
 import io.taf.utils.MessageProvider;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
@@ -8,11 +9,12 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.util.ClassUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+@SuppressWarnings("unchecked")
 public abstract class AbstractSection implements Section {
 
     @Autowired
@@ -23,6 +25,10 @@ public abstract class AbstractSection implements Section {
     @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull})
     private MessageProvider messageProvider;
 
+    @Autowired
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull})
+    private MetaRegistry metaRegistry;
+
     @Nonnull
     @Override
     public String getTitle() {
@@ -48,15 +54,6 @@ public abstract class AbstractSection implements Section {
     @Nonnull
     @Override
     public List<MetaElement> getContent() {
-        var content = new ArrayList<MetaElement>();
-        var beans = applicationContext.getBeansWithAnnotation(AssignSection.class);
-        beans.values().forEach(bean -> {
-            var annotation = bean.getClass().getAnnotation(AssignSection.class);
-            if (annotation.value().equals(getClass())) {
-                content.add((MetaElement) bean);
-            }
-        });
-
-        return content;
+        return metaRegistry.getSectionContent((Class<? extends Section>) ClassUtils.getUserClass(this));
     }
 }
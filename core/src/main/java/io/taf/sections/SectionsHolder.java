@@ -1,21 +1,70 @@
 package io.taf.sections;
 
+import jakarta.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.OrderComparator;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * Registry of the sections. The sections are sorted once into an immutable list when the context is refreshed,
+ * so the registry can be read concurrently by all UIs.
+ */
 @Component
 public class SectionsHolder {
 
     @Autowired
     private final List<Section> sections = new ArrayList<>();
 
+    private volatile Registry registry;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void refresh() {
+        registry = createRegistry();
+    }
+
+    /**
+     * @return the sections sorted by order
+     */
+    @Nonnull
     public List<Section> getSections() {
-        sections.sort(OrderComparator.INSTANCE);
-        return sections;
+        return getRegistry().sections();
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public <SECTION extends Section> Optional<SECTION> findSection(@Nonnull Class<SECTION> sectionClass) {
+        return Optional.ofNullable((SECTION) getRegistry().sectionsByClass().get(sectionClass));
+    }
+
+    @Nonnull
+    private Registry getRegistry() {
+        var result = registry;
+        if (result == null) {
+            result = createRegistry();
+            registry = result;
+        }
+        return result;
+    }
+
+    @Nonnull
+    private Registry createRegistry() {
+        var sorted = new ArrayList<>(sections);
+        sorted.sort(OrderComparator.INSTANCE);
+        return new Registry(List.copyOf(sorted), sorted.stream()
+                .collect(Collectors.toUnmodifiableMap(ClassUtils::getUserClass, Function.identity())));
+    }
+
+    private record Registry(@Nonnull List<Section> sections, @Nonnull Map<Class<?>, Section> sectionsByClass) {
     }
 
 }
@@ -1,18 +1,174 @@
 package io.taf.service;
 
+import io.taf.catalogs.CatalogCache;
+import io.taf.catalogs.CatalogCacheRegistry;
 import io.taf.catalogs.CatalogEntity;
+import io.taf.entity.AbstractDataEntity;
 import io.taf.repository.CatalogRepository;
+import io.taf.search.SearchBackend;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 public abstract class AbstractCatalogService<ENTITY extends CatalogEntity<ID>, ID extends Serializable>
         extends AbstractDataService<ENTITY, ID>
         implements CatalogService<ENTITY, ID> {
 
+    @Autowired
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull})
+    private SearchBackend searchBackend;
+
+    @Autowired
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull})
+    private CatalogCacheRegistry catalogCacheRegistry;
+
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Override}, lazy = true)
+    private final boolean queryCacheable = getCatalogCacheRegistry().find(getEntityClass())
+            .map(CatalogCache::queries)
+            .orElse(false);
+
     @Nonnull
     @Override
     public CatalogRepository<ENTITY, ID> getRepository() {
         return (CatalogRepository<ENTITY, ID>) super.getRepository();
     }
+
+    @Transactional(readOnly = true)
+    @Nonnull
+    @Override
+    public Page<ENTITY> list(@Nonnull Pageable pageable, @Nullable String filter) {
+        return findFilterSpecification(filter)
+                .map(specification -> getRepository().findAll(specification, pageable))
+                .orElseGet(() -> getRepository().findAll(pageable));
+    }
+
+    @Transactional(readOnly = true)
+    @Nonnull
+    @Override
+    public Slice<ENTITY> slice(@Nonnull Pageable pageable, @Nullable String filter) {
+        var specification = findFilterSpecification(filter);
+        if (specification.isEmpty() && !isQueryCacheable()) {
+            return getRepository().findSliceBy(pageable);
+        }
+        // The criteria query of a cached catalog is marked cacheable, the derived repository query is not
+        return findSlice(specification.orElseGet(() -> (root, query, builder) -> null), pageable);
+    }
+
+    @Override
+    protected long countExact(@Nullable String filter) {
+        return findFilterSpecification(filter)
+                .map(specification -> getRepository().count(specification))
+                .orElseGet(() -> getRepository().count());
+    }
+
+    @Transactional
+    @Nonnull
+    @Override
+    public ENTITY create(@Nonnull ENTITY entity) {
+        var created = super.create(entity);
+        afterCommit(() -> getSearchBackend().index(this, created));
+        return created;
+    }
+
+    @Transactional
+    @Nonnull
+    @Override
+    public ENTITY update(@Nonnull ENTITY entity) {
+        var updated = super.update(entity);
+        afterCommit(() -> getSearchBackend().index(this, updated));
+        return updated;
+    }
+
+    @Nonnull
+    @Override
+    protected ENTITY updateAttributes(@Nonnull ENTITY entity, @Nonnull Set<String> attributes) {
+        var updated = super.updateAttributes(entity, attributes);
+        if (!attributes.isEmpty()) {
+            afterCommit(() -> getSearchBackend().index(this, updated));
+        }
+        return updated;
+    }
+
+    @Transactional
+    @Override
+    public void delete(@Nonnull ID id) {
+        super.delete(id);
+        afterCommit(() -> getSearchBackend().remove(this, id));
+    }
+
+    @Transactional
+    @Override
+    public void delete(@Nonnull ENTITY entity) {
+        super.delete(entity);
+        afterCommit(() -> getSearchBackend().remove(this, entity.getId()));
+    }
+
+    @Transactional
+    @Nonnull
+    @Override
+    public List<ENTITY> createAll(@Nonnull Collection<ENTITY> entities) {
+        var created = super.createAll(entities);
+        afterCommit(() -> created.forEach(entity -> getSearchBackend().index(this, entity)));
+        return created;
+    }
+
+    @Transactional
+    @Nonnull
+    @Override
+    public List<ENTITY> updateAll(@Nonnull Collection<ENTITY> entities) {
+        var updated = super.updateAll(entities);
+        afterCommit(() -> updated.forEach(entity -> getSearchBackend().index(this, entity)));
+        return updated;
+    }
+
+    @Transactional
+    @Override
+    public void deleteAllById(@Nonnull Collection<ID> ids) {
+        super.deleteAllById(ids);
+        afterCommit(() -> ids.forEach(id -> getSearchBackend().remove(this, id)));
+    }
+
+    @Transactional
+    @Override
+    public int setDeletionMarkByFilter(@Nullable String filter, boolean deletionMark) {
+        return updateByFilter(filter, AbstractDataEntity.Fields.deletionMark, deletionMark);
+    }
+
+    @Transactional
+    @Override
+    public int setDraftByFilter(@Nullable String filter, boolean draftMark) {
+        return updateByFilter(filter, AbstractDataEntity.Fields.draftMark, draftMark);
+    }
+
+    /**
+     * Creates the specification of the entities matching the filter text using the configured {@link SearchBackend}.
+     *
+     * @param filter the filter text, can be null
+     * @return the specification or empty if the filter is blank
+     */
+    @Nonnull
+    @Override
+    protected Optional<Specification<ENTITY>> findFilterSpecification(@Nullable String filter) {
+        return Optional.ofNullable(filter).filter(StringUtils::isNotBlank)
+                .map(s -> getSearchBackend().createSpecification(this, s));
+    }
+
+    private int updateByFilter(@Nullable String filter, @Nonnull String attribute, @Nullable Object value) {
+        return updateBy(findFilterSpecification(filter).orElseGet(() -> (root, query, builder) -> null), attribute, value);
+    }
+
 }
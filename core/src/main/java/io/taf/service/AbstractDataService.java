@@ -2,17 +2,510 @@ package io.taf.service;
 
 import io.taf.entity.DataEntity;
 import io.taf.repository.DataRepository;
+import io.taf.utils.EntityUtils;
+import io.taf.utils.accessor.EntityAccessor;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.ScrollMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
 
 import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 public abstract class AbstractDataService<ENTITY extends DataEntity<ID>, ID extends Serializable>
         extends AbstractService<ENTITY, ID>
         implements DataService<ENTITY, ID> {
 
+    private static final String ESTIMATE_COUNT_QUERY = "select cast(c.reltuples as bigint) from pg_class c"
+            + " join pg_namespace n on n.oid = c.relnamespace where c.relname = ? and n.nspname = current_schema()";
+
+    /**
+     * SQL states of an undefined table, function, object or schema: the estimate cannot be queried at all then.
+     */
+    private static final Set<String> ESTIMATE_UNSUPPORTED_STATES = Set.of("42P01", "42883", "42704", "3F000");
+
+    @Getter(onMethod_ = {@Override, @Nonnull}, lazy = true)
+    private final CountStrategy countStrategy = initCountStrategy();
+
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull}, lazy = true)
+    private final Duration countTtl = initCountTtl();
+
+    private final Map<String, CachedCount> cachedCounts = new ConcurrentHashMap<>();
+
+    private volatile boolean estimateSupported;
+
+    @Autowired
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull})
+    private DataSource dataSource;
+
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull}, lazy = true)
+    private final Set<String> projectableAttributes = initProjectableAttributes();
+
+    /**
+     * Targets of the projectable many-to-one attributes by attribute name. Only their foreign keys are selected.
+     */
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull}, lazy = true)
+    private final Map<String, Reference> projectedReferences = initProjectedReferences();
+
+    /**
+     * Number of rows the JDBC driver fetches at once while {@link #forEach streaming} entities.
+     */
+    @Value("${spring.jpa.properties.hibernate.jdbc.fetch_size:500}")
+    @Getter(value = AccessLevel.PROTECTED)
+    private int fetchSize;
+
     @Nonnull
     @Override
     public DataRepository<ENTITY, ID> getRepository() {
         return (DataRepository<ENTITY, ID>) super.getRepository();
     }
+
+    /**
+     * Checks once whether the database provides row estimates, only PostgreSQL does.
+     */
+    @PostConstruct
+    protected void initEstimateCount() {
+        if (getCountStrategy() != CountStrategy.ESTIMATED) {
+            return;
+        }
+        try (var connection = getDataSource().getConnection()) {
+            estimateSupported = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            log.warn("Cannot detect the database of {}, counting exactly", getEntityClass().getSimpleName(), e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public long count(@Nullable String filter) {
+        return switch (getCountStrategy()) {
+            case EXACT -> countExact(filter);
+            case CACHED -> countCached(filter);
+            case ESTIMATED -> StringUtils.isBlank(filter)
+                    ? estimateCount().orElseGet(() -> countCached(filter))
+                    : countCached(filter);
+        };
+    }
+
+    /**
+     * Selects the identifier and the requested persistent attributes as a tuple and fills new entity instances
+     * with them, so the persistence context does not hold the entities. Requested attributes that are not
+     * basic or many-to-one persistent attributes are not loaded.
+     */
+    @Transactional(readOnly = true)
+    @Nonnull
+    @Override
+    public Slice<ENTITY> sliceProjection(@Nonnull Pageable pageable, @Nullable String filter,
+                                         @Nonnull Collection<String> attributes) {
+        return findSliceProjection(findFilterSpecification(filter).orElseGet(() -> (root, query, builder) -> null),
+                pageable, attributes);
+    }
+
+    /**
+     * Streams the entities through a {@link StatelessSession} in a read-only transaction of its own. Rows are
+     * fetched in chunks of the {@link #getFetchSize() fetch size}, and the entities are neither kept in a
+     * persistence context nor dirty-checked, so memory use does not grow with the number of entities.
+     * The entities are detached; lazy associations cannot be loaded.
+     */
+    @Override
+    public void forEach(@Nullable String filter, @Nonnull Sort sort, @Nonnull Consumer<? super ENTITY> action) {
+        var specification = findFilterSpecification(filter).orElseGet(() -> (root, query, builder) -> null);
+        try (var session = getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).openStatelessSession()) {
+            var transaction = session.beginTransaction();
+            try {
+                var builder = session.getCriteriaBuilder();
+                var criteria = builder.createQuery(getEntityClass());
+                var root = criteria.from(getEntityClass());
+                Optional.ofNullable(specification.toPredicate(root, criteria, builder)).ifPresent(criteria::where);
+                criteria.select(root).orderBy(QueryUtils.toOrders(sort, root, builder));
+
+                try (var results = session.createSelectionQuery(criteria)
+                        .setFetchSize(getFetchSize())
+                        .scroll(ScrollMode.FORWARD_ONLY)) {
+                    while (results.next()) {
+                        action.accept(results.get());
+                    }
+                }
+            } finally {
+                // Nothing was written, ending the transaction only releases the cursor
+                transaction.rollback();
+            }
+        }
+    }
+
+    @Transactional
+    @Nonnull
+    @Override
+    public ENTITY create(@Nonnull ENTITY entity) {
+        var created = super.create(entity);
+        afterCommit(this::evictCachedCounts);
+        return created;
+    }
+
+    @Transactional
+    @Override
+    public void delete(@Nonnull ID id) {
+        super.delete(id);
+        afterCommit(this::evictCachedCounts);
+    }
+
+    @Transactional
+    @Override
+    public void delete(@Nonnull ENTITY entity) {
+        super.delete(entity);
+        afterCommit(this::evictCachedCounts);
+    }
+
+    @Transactional
+    @Nonnull
+    @Override
+    public List<ENTITY> createAll(@Nonnull Collection<ENTITY> entities) {
+        var created = super.createAll(entities);
+        afterCommit(this::evictCachedCounts);
+        return created;
+    }
+
+    @Transactional
+    @Override
+    public void deleteAllById(@Nonnull Collection<ID> ids) {
+        super.deleteAllById(ids);
+        afterCommit(this::evictCachedCounts);
+    }
+
+    /**
+     * Drops all cached counts, so the next request counts the entities again. Creating and deleting entities
+     * through the service and bulk updates do this after commit.
+     */
+    @Override
+    public void evictCachedCounts() {
+        cachedCounts.clear();
+    }
+
+    protected long countExact(@Nullable String filter) {
+        return DataService.super.count(filter);
+    }
+
+    protected long countCached(@Nullable String filter) {
+        var key = Objects.toString(filter, "");
+        var now = System.nanoTime();
+        var cached = cachedCounts.get(key);
+        if (cached != null && cached.expiresAt() - now > 0) {
+            return cached.value();
+        }
+
+        var value = countExact(filter);
+        cachedCounts.put(key, new CachedCount(value, now + getCountTtl().toNanos()));
+        return value;
+    }
+
+    @Nonnull
+    protected OptionalLong estimateCount() {
+        if (!estimateSupported) {
+            return OptionalLong.empty();
+        }
+
+        // The probe runs on the connection of the count transaction, so a count never takes a second pooled
+        // connection; the savepoint keeps a failing probe from aborting that transaction
+        return getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            var savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+            try {
+                var value = queryEstimate(connection);
+                if (savepoint != null) {
+                    connection.releaseSavepoint(savepoint);
+                }
+                return value;
+            } catch (SQLException e) {
+                if (savepoint != null) {
+                    connection.rollback(savepoint);
+                }
+                if (ESTIMATE_UNSUPPORTED_STATES.contains(e.getSQLState())) {
+                    estimateSupported = false;
+                    log.warn("Row estimates of {} are not available, counting instead", getEntityClass().getSimpleName(), e);
+                } else {
+                    log.debug("Cannot estimate the count of {}", getEntityClass().getSimpleName(), e);
+                }
+                return OptionalLong.empty();
+            }
+        });
+    }
+
+    @Nonnull
+    private OptionalLong queryEstimate(@Nonnull Connection connection) throws SQLException {
+        try (var statement = connection.prepareStatement(ESTIMATE_COUNT_QUERY)) {
+            statement.setString(1, EntityUtils.getTableName(getEntityClass()).toLowerCase());
+            try (var result = statement.executeQuery()) {
+                if (!result.next()) {
+                    return OptionalLong.empty();
+                }
+                var value = result.getLong(1);
+                return value < 0 ? OptionalLong.empty() : OptionalLong.of(value);
+            }
+        }
+    }
+
+    /**
+     * Finds a slice of entities matching the specification. One extra row is fetched to detect
+     * the next slice, so no count query is executed.
+     *
+     * @param specification the specification of the entities
+     * @param pageable      the page request
+     * @return the slice of entities
+     */
+    @Nonnull
+    protected Slice<ENTITY> findSlice(@Nonnull Specification<ENTITY> specification, @Nonnull Pageable pageable) {
+        var builder = getEntityManager().getCriteriaBuilder();
+        var criteria = builder.createQuery(getEntityClass());
+        var root = criteria.from(getEntityClass());
+        Optional.ofNullable(specification.toPredicate(root, criteria, builder)).ifPresent(criteria::where);
+        criteria.select(root).orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        var query = getEntityManager().createQuery(criteria).setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (isQueryCacheable()) {
+            query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        }
+        return toSlice(query, pageable, Function.identity());
+    }
+
+    /**
+     * Finds a slice of entities matching the specification with only the identifier and the given attributes
+     * loaded. The entities are created from the selected values and are not managed. A many-to-one attribute
+     * is loaded as a new, unmanaged instance of the associated entity with only its identifier set, selected
+     * from the foreign key without a join.
+     *
+     * @param specification the specification of the entities
+     * @param pageable      the page request
+     * @param attributes    the names of the attributes to load
+     * @return the slice of partially loaded entities
+     */
+    @Nonnull
+    protected Slice<ENTITY> findSliceProjection(@Nonnull Specification<ENTITY> specification, @Nonnull Pageable pageable,
+                                                @Nonnull Collection<String> attributes) {
+        var names = new LinkedHashSet<String>();
+        names.add(getUpdateModel().id());
+        attributes.stream().filter(getProjectableAttributes()::contains).forEach(names::add);
+
+        var builder = getEntityManager().getCriteriaBuilder();
+        var criteria = builder.createTupleQuery();
+        var root = criteria.from(getEntityClass());
+        Optional.ofNullable(specification.toPredicate(root, criteria, builder)).ifPresent(criteria::where);
+        criteria.multiselect(names.stream().<Selection<?>>map(name -> Optional.ofNullable(getProjectedReferences().get(name))
+                        .<Path<?>>map(reference -> root.get(name).get(reference.id()))
+                        .orElseGet(() -> root.get(name))
+                        .alias(name)).toList())
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+
+        var query = getEntityManager().createQuery(criteria).setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (isQueryCacheable()) {
+            query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        }
+
+        var accessor = EntityAccessor.of(getEntityClass());
+        return toSlice(query, pageable, tuple -> {
+            var entity = BeanUtils.instantiateClass(getEntityClass());
+            names.forEach(name -> accessor.getAccessor(name).set(entity, Optional.ofNullable(tuple.get(name))
+                    .map(value -> Optional.ofNullable(getProjectedReferences().get(name))
+                            .map(reference -> reference.create(value))
+                            .orElse(value))
+                    .orElse(null)));
+            return entity;
+        });
+    }
+
+    /**
+     * Specifies whether the list queries of the service are put into the Hibernate query cache.
+     *
+     * @return false by default
+     */
+    protected boolean isQueryCacheable() {
+        return false;
+    }
+
+    /**
+     * Sets an attribute of all entities matching the specification with one update statement,
+     * incrementing the version of versioned entities. The specification is applied to an identifier subquery,
+     * so it may join associations and use its query like in a select; changes of the query itself, like ordering
+     * or distinct, have no effect.
+     * The persistence context is flushed before and cleared after the update, cached counts are evicted after commit.
+     * Like every bulk statement, the update evicts the whole second-level cache region of a cached entity.
+     *
+     * @param specification the specification of the entities
+     * @param attribute     the attribute name
+     * @param value         the new value
+     * @return the number of updated entities
+     */
+    protected int updateBy(@Nonnull Specification<ENTITY> specification, @Nonnull String attribute, @Nullable Object value) {
+        var builder = getEntityManager().getCriteriaBuilder();
+        var criteria = builder.createCriteriaUpdate(getEntityClass());
+        var root = criteria.from(getEntityClass());
+        criteria.set(attribute, value);
+        Optional.ofNullable(getUpdateModel().version()).ifPresent(version -> {
+            Path<Long> path = root.get(version);
+            criteria.set(path, builder.sum(path, 1L));
+        });
+
+        var subquery = criteria.subquery(getIdClass());
+        var subqueryRoot = subquery.from(getEntityClass());
+        subquery.select(subqueryRoot.get(getUpdateModel().id()));
+        Optional.ofNullable(specification.toPredicate(subqueryRoot, builder.createQuery(getEntityClass()), builder))
+                .ifPresent(subquery::where);
+        criteria.where(root.get(getUpdateModel().id()).in(subquery));
+
+        getEntityManager().flush();
+        var result = getEntityManager().createQuery(criteria).executeUpdate();
+        getEntityManager().clear();
+        afterCommit(this::evictCachedCounts);
+        return result;
+    }
+
+    /**
+     * Runs the action after the current transaction commits, or right away without a transaction.
+     *
+     * @param action the action
+     */
+    protected void afterCommit(@Nonnull Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Creates the specification of the entities matching the filter text, the identifier containing the text
+     * like {@link DataRepository#FILTER_CONDITION}.
+     *
+     * @param filter the filter text, can be null
+     * @return the specification or empty if the filter is blank
+     */
+    @Nonnull
+    protected Optional<Specification<ENTITY>> findFilterSpecification(@Nullable String filter) {
+        return Optional.ofNullable(filter).filter(StringUtils::isNotBlank)
+                .map(String::toLowerCase)
+                .<Specification<ENTITY>>map(s -> (root, query, builder) -> builder.like(
+                        builder.lower(root.get(getUpdateModel().id()).as(String.class)), "%" + s + "%"));
+    }
+
+    @Nonnull
+    private <T> Slice<ENTITY> toSlice(@Nonnull TypedQuery<T> query, @Nonnull Pageable pageable,
+                                      @Nonnull Function<T, ENTITY> mapper) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList().stream().map(mapper).toList(), pageable, false);
+        }
+
+        var content = query.setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        var hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>((hasNext ? content.subList(0, pageable.getPageSize()) : content).stream()
+                .map(mapper)
+                .toList(), pageable, hasNext);
+    }
+
+    @Nonnull
+    private Set<String> initProjectableAttributes() {
+        return getEntityManager().getMetamodel().entity(getEntityClass()).getSingularAttributes().stream()
+                .filter(attribute -> attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC
+                        || attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.MANY_TO_ONE)
+                .map(Attribute::getName)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Nonnull
+    private Map<String, Reference> initProjectedReferences() {
+        var metamodel = getEntityManager().getMetamodel();
+        return metamodel.entity(getEntityClass()).getSingularAttributes().stream()
+                .filter(attribute -> attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.MANY_TO_ONE)
+                .collect(Collectors.toUnmodifiableMap(Attribute::getName, attribute -> {
+                    var type = metamodel.entity(attribute.getJavaType());
+                    return new Reference(attribute.getJavaType(), type.getId(type.getIdType().getJavaType()).getName());
+                }));
+    }
+
+    @Nonnull
+    private CountStrategy initCountStrategy() {
+        return Optional.ofNullable(getClass().getAnnotation(CountConfig.class))
+                .map(CountConfig::strategy)
+                .orElse(CountStrategy.EXACT);
+    }
+
+    @Nonnull
+    private Duration initCountTtl() {
+        return Optional.ofNullable(getClass().getAnnotation(CountConfig.class))
+                .map(CountConfig::ttl)
+                .map(Duration::ofSeconds)
+                .orElseGet(() -> Duration.ofSeconds(30));
+    }
+
+    private record CachedCount(long value, long expiresAt) {
+    }
+
+    /**
+     * Associated entity of a projected many-to-one attribute.
+     *
+     * @param type the associated entity class
+     * @param id   the identifier attribute name of the associated entity
+     */
+    protected record Reference(@Nonnull Class<?> type, @Nonnull String id) {
+
+        /**
+         * @param idValue the identifier
+         * @return a new, unmanaged instance with only the identifier set
+         */
+        @Nonnull
+        @SuppressWarnings("unchecked")
+        public Object create(@Nonnull Object idValue) {
+            var instance = BeanUtils.instantiateClass(type);
+            EntityAccessor.of((Class<Object>) type).getAccessor(id).set(instance, idValue);
+            return instance;
+        }
+
+    }
+
 }
@@ -3,11 +3,50 @@ package io.taf.service;
 import io.taf.entity.Entity;
 import io.taf.repository.Repository;
 import io.taf.utils.GenericUtils;
+import io.taf.utils.accessor.EntityAccessor;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.hibernate.annotations.Cascade;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.annotation.LastModifiedBy;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ReflectionUtils;
 
 import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public abstract class AbstractService<ENTITY extends Entity<ID>, ID extends Serializable>
         implements Service<ENTITY, ID> {
@@ -21,5 +60,293 @@ public abstract class AbstractService<ENTITY extends Entity<ID>, ID extends Seri
     @Autowired
     @Getter(onMethod_ = {@Override, @Nonnull})
     private Repository<ENTITY, ID> repository;
-    
+
+    @PersistenceContext
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull})
+    private EntityManager entityManager;
+
+    /**
+     * Number of entities written between two flushes of a bulk operation. Matches the JDBC batch size,
+     * so every flush sends full batches.
+     */
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    @Getter(value = AccessLevel.PROTECTED)
+    private int batchSize;
+
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull}, lazy = true)
+    private final UpdateModel updateModel = initUpdateModel();
+
+    /**
+     * Updates the changed attributes with a single {@code UPDATE ... WHERE id = ? AND version = ?} statement,
+     * so a detached entity is not selected again like {@link EntityManager#merge(Object) merge} does. Attributes that are
+     * not persistent or not updatable are ignored; nothing is written if no attribute remains. Entities with
+     * update callbacks or modification auditing are updated with {@link #update(Entity)} to keep them working,
+     * and so are entities kept in the second-level cache: a bulk update statement evicts their whole cache region,
+     * while the dirty-checked update only refreshes the entry of the entity. An entity managed by the current
+     * persistence context is updated with {@link #update(Entity)} as well, since the flush before the update
+     * statement would write it already and its version would get out of step with the context.
+     */
+    @Transactional
+    @Nonnull
+    @Override
+    public ENTITY update(@Nonnull ENTITY entity, @Nonnull Collection<String> changedAttributes) {
+        if (entity.isNew() || getUpdateModel().callbacks() || getUpdateModel().cached()
+                || getEntityManager().contains(entity)) {
+            return update(entity);
+        }
+        return updateAttributes(entity, changedAttributes.stream()
+                .filter(getUpdateModel().attributes()::contains)
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+
+    /**
+     * Writes the given attributes of the entity with one update statement. A versioned entity is only updated
+     * if its version is still the current one; the version is incremented then.
+     *
+     * @param entity     the persisted entity
+     * @param attributes the persistent, updatable attribute names
+     * @return the entity
+     * @throws ObjectOptimisticLockingFailureException if the entity was changed concurrently or does not exist anymore
+     */
+    @Nonnull
+    protected ENTITY updateAttributes(@Nonnull ENTITY entity, @Nonnull Set<String> attributes) {
+        return writeAttributes(entity, attributes);
+    }
+
+    @Transactional
+    @Nonnull
+    @Override
+    public List<ENTITY> createAll(@Nonnull Collection<ENTITY> entities) {
+        var result = new ArrayList<ENTITY>(entities.size());
+        doInBatches(entities, batch -> {
+            batch.forEach(getEntityManager()::persist);
+            result.addAll(batch);
+            return batch;
+        });
+        return result;
+    }
+
+    /**
+     * Updates the entities in batches. A detached, versioned entity is written with one version checked
+     * {@code UPDATE} statement of all its updatable attributes, like {@link #update(Entity, Collection)} does,
+     * so it is not selected again by {@link EntityManager#merge(Object) merge}. Entities that are managed, not
+     * versioned, or have update callbacks or second-level caching are merged.
+     */
+    @Transactional
+    @Nonnull
+    @Override
+    public List<ENTITY> updateAll(@Nonnull Collection<ENTITY> entities) {
+        var model = getUpdateModel();
+        var statements = model.version() != null && !model.callbacks() && !model.cached();
+        var result = new ArrayList<ENTITY>(entities.size());
+        doInBatches(entities, batch -> {
+            var detached = new ArrayList<ENTITY>(batch.size());
+            batch.forEach(entity -> {
+                // An entity already managed by the caller is merged into itself and stays managed
+                var managed = getEntityManager().contains(entity);
+                if (statements && !managed && !entity.isNew()) {
+                    result.add(writeAttributes(entity, model.attributes()));
+                    return;
+                }
+                var merged = getEntityManager().merge(entity);
+                result.add(merged);
+                if (!managed) {
+                    detached.add(merged);
+                }
+            });
+            return detached;
+        });
+        return result;
+    }
+
+    /**
+     * Deletes the entities in batches. Without remove callbacks, cascaded removals or second-level caching
+     * every batch is deleted with one {@code DELETE ... WHERE id IN (...)} statement; otherwise the entities
+     * are loaded and removed one by one to keep those working. The bulk statement bypasses the persistence
+     * context, so entities of the batch managed by the caller are not removed from it.
+     */
+    @Transactional
+    @Override
+    public void deleteAllById(@Nonnull Collection<ID> ids) {
+        if (getUpdateModel().bulkDeletable()) {
+            var builder = getEntityManager().getCriteriaBuilder();
+            doInBatches(ids, batch -> {
+                var criteria = builder.createCriteriaDelete(getEntityClass());
+                var root = criteria.from(getEntityClass());
+                criteria.where(root.get(getUpdateModel().id()).in(batch));
+                getEntityManager().createQuery(criteria).executeUpdate();
+                return List.of();
+            });
+            return;
+        }
+        // Removed entities leave the persistence context with the flush
+        doInBatches(ids, batch -> {
+            getRepository().findAllById(batch).forEach(getEntityManager()::remove);
+            return List.of();
+        });
+    }
+
+    /**
+     * Runs the action for consecutive batches of {@link #getBatchSize() batch size} items. The persistence context
+     * is flushed after every batch, so Hibernate sends the pending statements as JDBC batches, and the entities
+     * returned by the action are detached, so the context stays bounded. Other entities managed by the caller
+     * are left untouched.
+     *
+     * @param items  the items to process
+     * @param action the action processing a batch and returning the managed entities to detach after the flush
+     * @param <T>    the item type
+     */
+    protected <T> void doInBatches(@Nonnull Collection<T> items, @Nonnull Function<List<T>, Collection<?>> action) {
+        var size = Math.max(1, getBatchSize());
+        var batch = new ArrayList<T>(Math.min(size, items.size()));
+        for (var item : items) {
+            batch.add(item);
+            if (batch.size() == size) {
+                flushBatch(batch, action);
+            }
+        }
+        if (!batch.isEmpty()) {
+            flushBatch(batch, action);
+        }
+    }
+
+    @Nonnull
+    private ENTITY writeAttributes(@Nonnull ENTITY entity, @Nonnull Set<String> attributes) {
+        if (attributes.isEmpty()) {
+            return entity;
+        }
+
+        var accessor = EntityAccessor.of(getEntityClass());
+        var builder = getEntityManager().getCriteriaBuilder();
+        var criteria = builder.createCriteriaUpdate(getEntityClass());
+        var root = criteria.from(getEntityClass());
+        attributes.forEach(attribute -> criteria.set(attribute, accessor.getAccessor(attribute).get(entity)));
+
+        var version = getUpdateModel().version();
+        if (version == null) {
+            criteria.where(builder.equal(root.get(getUpdateModel().id()), entity.getId()));
+        } else {
+            Path<Long> path = root.get(version);
+            criteria.set(path, builder.sum(path, 1L));
+            criteria.where(builder.equal(root.get(getUpdateModel().id()), entity.getId()),
+                    entity.getVersion() == null ? builder.isNull(path) : builder.equal(path, entity.getVersion()));
+        }
+
+        if (getEntityManager().createQuery(criteria).executeUpdate() == 0) {
+            throw new ObjectOptimisticLockingFailureException(getEntityClass(), entity.getId());
+        }
+        if (version != null) {
+            entity.setVersion(Optional.ofNullable(entity.getVersion()).orElse(0L) + 1);
+        }
+        return entity;
+    }
+
+    @Nonnull
+    private UpdateModel initUpdateModel() {
+        var type = getEntityManager().getMetamodel().entity(getEntityClass());
+        var id = type.getId(type.getIdType().getJavaType()).getName();
+        var version = type.getSingularAttributes().stream()
+                .filter(SingularAttribute::isVersion)
+                .map(SingularAttribute::getName)
+                .findFirst()
+                .orElse(null);
+        var attributes = type.getSingularAttributes().stream()
+                .filter(attribute -> !attribute.isId() && !attribute.isVersion())
+                .filter(attribute -> attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC
+                        || attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.MANY_TO_ONE)
+                .filter(this::isUpdatable)
+                .map(SingularAttribute::getName)
+                .collect(Collectors.toUnmodifiableSet());
+        var cached = getEntityManager().getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(getEntityClass())
+                .canWriteToCache();
+        var bulkDeletable = !cached && !hasRemoveCallbacks() && type.getAttributes().stream()
+                .map(Attribute::getJavaMember)
+                .noneMatch(member -> member instanceof Field field && cascadesRemoval(field));
+        return new UpdateModel(id, version, attributes, hasUpdateCallbacks(), cached, bulkDeletable);
+    }
+
+    private boolean isUpdatable(@Nonnull SingularAttribute<?, ?> attribute) {
+        return !(attribute.getJavaMember() instanceof Field field)
+                || Optional.ofNullable(field.getAnnotation(Column.class)).map(Column::updatable).orElse(true);
+    }
+
+    private boolean hasUpdateCallbacks() {
+        var result = new AtomicBoolean();
+        getCallbackTypes().forEach(type -> ReflectionUtils.doWithMethods(type, method -> result.set(true),
+                method -> method.isAnnotationPresent(PreUpdate.class) || method.isAnnotationPresent(PostUpdate.class)));
+        ReflectionUtils.doWithFields(getEntityClass(), field -> result.set(true),
+                field -> field.isAnnotationPresent(LastModifiedDate.class) || field.isAnnotationPresent(LastModifiedBy.class));
+        return result.get();
+    }
+
+    private boolean hasRemoveCallbacks() {
+        var result = new AtomicBoolean();
+        getCallbackTypes().forEach(type -> ReflectionUtils.doWithMethods(type, method -> result.set(true),
+                method -> method.isAnnotationPresent(PreRemove.class) || method.isAnnotationPresent(PostRemove.class)));
+        return result.get();
+    }
+
+    private boolean cascadesRemoval(@Nonnull Field field) {
+        var cascades = new ArrayList<CascadeType>();
+        Optional.ofNullable(field.getAnnotation(OneToMany.class)).ifPresent(annotation -> {
+            cascades.addAll(List.of(annotation.cascade()));
+            if (annotation.orphanRemoval()) {
+                cascades.add(CascadeType.REMOVE);
+            }
+        });
+        Optional.ofNullable(field.getAnnotation(OneToOne.class)).ifPresent(annotation -> {
+            cascades.addAll(List.of(annotation.cascade()));
+            if (annotation.orphanRemoval()) {
+                cascades.add(CascadeType.REMOVE);
+            }
+        });
+        Optional.ofNullable(field.getAnnotation(ManyToMany.class)).map(ManyToMany::cascade).map(List::of)
+                .ifPresent(cascades::addAll);
+        Optional.ofNullable(field.getAnnotation(ManyToOne.class)).map(ManyToOne::cascade).map(List::of)
+                .ifPresent(cascades::addAll);
+        // Hibernate specific cascades are not inspected in detail
+        return field.isAnnotationPresent(Cascade.class)
+                || cascades.contains(CascadeType.ALL) || cascades.contains(CascadeType.REMOVE);
+    }
+
+    @Nonnull
+    private List<Class<?>> getCallbackTypes() {
+        var types = new ArrayList<Class<?>>();
+        types.add(getEntityClass());
+        Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(getEntityClass(), EntityListeners.class))
+                .ifPresent(annotation -> {
+                    for (Class<?> listener : annotation.value()) {
+                        // Auditing only acts on the last modified fields checked below
+                        if (listener != AuditingEntityListener.class) {
+                            types.add(listener);
+                        }
+                    }
+                });
+        return types;
+    }
+
+    private <T> void flushBatch(@Nonnull List<T> batch, @Nonnull Function<List<T>, Collection<?>> action) {
+        var handled = action.apply(List.copyOf(batch));
+        getEntityManager().flush();
+        handled.forEach(getEntityManager()::detach);
+        batch.clear();
+    }
+
+    /**
+     * Persistent model used by attribute updates and bulk deletes.
+     *
+     * @param id            the identifier attribute name
+     * @param version       the version attribute name, null if the entity is not versioned
+     * @param attributes    the updatable attribute names
+     * @param callbacks     whether updates of the entity trigger callbacks or auditing
+     * @param cached        whether the entity is kept in the second-level cache
+     * @param bulkDeletable whether the entity can be deleted by a statement, having no remove callbacks,
+     *                      cascaded removals or second-level caching
+     */
+    protected record UpdateModel(@Nonnull String id, @Nullable String version, @Nonnull Set<String> attributes,
+                                 boolean callbacks, boolean cached, boolean bulkDeletable) {
+    }
+
 }
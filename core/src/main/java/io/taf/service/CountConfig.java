@@ -0,0 +1,24 @@
+package io.taf.service;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the count strategy of a data service.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CountConfig {
+
+    CountStrategy strategy() default CountStrategy.EXACT;
+
+    /**
+     * Specifies how long a counted value is reused by {@link CountStrategy#CACHED}.
+     *
+     * @return The time to live in seconds.
+     */
+    long ttl() default 30;
+
+}
@@ -0,0 +1,24 @@
+package io.taf.service;
+
+/**
+ * Defines how a {@link DataService} counts its entities for lazy loaded grids.
+ */
+public enum CountStrategy {
+
+    /**
+     * Runs a {@code select count(*)} every time the count is requested.
+     */
+    EXACT,
+
+    /**
+     * Runs a {@code select count(*)} and reuses its result until the configured time to live expires.
+     */
+    CACHED,
+
+    /**
+     * Uses the row estimate maintained by the database statistics (PostgreSQL {@code pg_class.reltuples}).
+     * Falls back to {@link #CACHED} when the estimate is not available or a filter is applied.
+     */
+    ESTIMATED
+
+}
@@ -1,14 +1,27 @@
 package io.taf.service;
 
+import io.taf.entity.AbstractDataEntity;
 import io.taf.entity.DataEntity;
 import io.taf.repository.DataRepository;
+import io.taf.utils.EntityUtils;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface DataService<ENTITY extends DataEntity<ID>, ID extends Serializable>
         extends Service<ENTITY, ID> {
@@ -17,26 +30,174 @@ public interface DataService<ENTITY extends DataEntity<ID>, ID extends Serializa
     @Override
     DataRepository<ENTITY, ID> getRepository();
 
+    @Nonnull
+    default CountStrategy getCountStrategy() {
+        return CountStrategy.EXACT;
+    }
+
+    @Transactional(readOnly = true)
     @Nonnull
     default Page<ENTITY> list(@Nonnull Pageable pageable) {
         return list(pageable, null);
     }
 
+    @Transactional(readOnly = true)
     @Nonnull
     default Page<ENTITY> list(@Nonnull Pageable pageable, @Nullable String filter) {
-        return Optional.ofNullable(filter).filter(String::isBlank)
-                .map(s -> getRepository().findAllBy(pageable, filter))
+        return Optional.ofNullable(filter).filter(StringUtils::isNotBlank)
+                .map(s -> getRepository().findAllBy(pageable, s))
                 .orElseGet(() -> getRepository().findAll(pageable));
     }
 
+    /**
+     * Lists a slice of entities without counting all of them.
+     *
+     * @param pageable the page request
+     * @param filter   the filter text, can be null
+     * @return the slice of entities
+     */
+    @Transactional(readOnly = true)
+    @Nonnull
+    default Slice<ENTITY> slice(@Nonnull Pageable pageable, @Nullable String filter) {
+        return Optional.ofNullable(filter).filter(StringUtils::isNotBlank)
+                .map(s -> getRepository().findSliceBy(pageable, s))
+                .orElseGet(() -> getRepository().findSliceBy(pageable));
+    }
+
+    /**
+     * Lists a slice of entities with only the given attributes and the identifier loaded. The entities are not
+     * managed, so they are neither tracked nor dirty-checked, and must not be saved. The default implementation
+     * loads the entire entities.
+     *
+     * @param pageable   the page request
+     * @param filter     the filter text, can be null
+     * @param attributes the names of the attributes to load
+     * @return the slice of partially loaded entities
+     */
+    @Transactional(readOnly = true)
+    @Nonnull
+    default Slice<ENTITY> sliceProjection(@Nonnull Pageable pageable, @Nullable String filter,
+                                          @Nonnull Collection<String> attributes) {
+        return slice(pageable, filter);
+    }
+
+    /**
+     * Counts the entities matching the filter according to the {@link #getCountStrategy() count strategy}.
+     * The default implementation always counts exactly.
+     *
+     * @param filter the filter text, can be null
+     * @return the number of entities
+     */
+    @Transactional(readOnly = true)
+    default long count(@Nullable String filter) {
+        return Optional.ofNullable(filter).filter(StringUtils::isNotBlank)
+                .map(s -> getRepository().countAllBy(s))
+                .orElseGet(() -> getRepository().count());
+    }
+
+    /**
+     * Drops the counts kept by the {@link #getCountStrategy() count strategy}, so the next request counts
+     * the entities again. Called after writes that bypass the service, like imports. Does nothing by default.
+     */
+    default void evictCachedCounts() {
+    }
+
+    /**
+     * Reads all entities matching the filter in the given order and passes them to the action one by one.
+     * The default implementation loads them as one unpaged slice.
+     * <p>
+     * Not transactional on purpose: an annotation here would also apply to overrides, and an implementation
+     * streaming on a connection of its own would then hold a second, idle one for the whole run. Implementations
+     * manage their transaction themselves.
+     *
+     * @param filter the filter text, can be null
+     * @param sort   the sort order
+     * @param action the action receiving the entities
+     */
+    default void forEach(@Nullable String filter, @Nonnull Sort sort, @Nonnull Consumer<? super ENTITY> action) {
+        slice(Pageable.unpaged(sort), filter).forEach(action);
+    }
+
+    @Transactional(readOnly = true)
+    @Nonnull
+    default Window<ENTITY> scroll(@Nonnull ScrollPosition position, @Nonnull Sort sort, int limit) {
+        return getRepository().findWindowBy(position, sort, Limit.of(limit));
+    }
+
+    /**
+     * Checks whether the given sort order can be used for keyset (seek) pagination. Every sorted property
+     * has to be a persistent, non-nullable attribute, otherwise rows with null keys would be skipped.
+     *
+     * @param sort the sort order to check
+     * @return true if the entities can be scrolled by keyset with this sort order
+     */
+    default boolean isKeysetSortable(@Nonnull Sort sort) {
+        return sort.stream().allMatch(order -> EntityUtils.isKeysetProperty(getEntityClass(), order.getProperty()));
+    }
+
     default void toggleDeletionMark(ENTITY entity) {
         entity.toggleDeletionMark();
-        update(entity);
+        update(entity, List.of(AbstractDataEntity.Fields.deletionMark));
     }
 
     default void toggleDraftMark(ENTITY entity) {
         entity.toggleDraftMark();
-        update(entity);
+        update(entity, List.of(AbstractDataEntity.Fields.draftMark));
+    }
+
+    /**
+     * Marks the entities with the given identifiers for deletion with one update statement,
+     * the entities are not loaded.
+     *
+     * @param ids the identifiers of the entities
+     * @return the number of updated entities
+     */
+    @Transactional
+    default int markDeleted(@Nonnull Collection<ID> ids) {
+        return setDeletionMark(ids, true);
+    }
+
+    @Transactional
+    default int setDeletionMark(@Nonnull Collection<ID> ids, boolean deletionMark) {
+        return ids.isEmpty() ? 0 : getRepository().setDeletionMark(ids, deletionMark);
+    }
+
+    /**
+     * Sets the deletion mark of all entities matching the filter with one update statement.
+     *
+     * @param filter       the filter text, can be null to update all entities
+     * @param deletionMark the new deletion mark
+     * @return the number of updated entities
+     */
+    @Transactional
+    default int setDeletionMarkByFilter(@Nullable String filter, boolean deletionMark) {
+        return getRepository().setDeletionMarkBy(Objects.toString(filter, ""), deletionMark);
+    }
+
+    /**
+     * Toggles the deletion mark of every entity with the given identifiers with one update statement.
+     *
+     * @param ids the identifiers of the entities
+     * @return the number of updated entities
+     */
+    @Transactional
+    default int toggleDeletionMark(@Nonnull Collection<ID> ids) {
+        return ids.isEmpty() ? 0 : getRepository().toggleDeletionMark(ids);
+    }
+
+    @Transactional
+    default int setDraft(@Nonnull Collection<ID> ids, boolean draftMark) {
+        return ids.isEmpty() ? 0 : getRepository().setDraftMark(ids, draftMark);
+    }
+
+    @Transactional
+    default int setDraftByFilter(@Nullable String filter, boolean draftMark) {
+        return getRepository().setDraftMarkBy(Objects.toString(filter, ""), draftMark);
+    }
+
+    @Transactional
+    default int toggleDraftMark(@Nonnull Collection<ID> ids) {
+        return ids.isEmpty() ? 0 : getRepository().toggleDraftMark(ids);
     }
 
 }
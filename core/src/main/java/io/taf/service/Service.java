@@ -4,9 +4,12 @@ import io.taf.entity.Entity;
 import io.taf.repository.Repository;
 import jakarta.annotation.Nonnull;
 import lombok.SneakyThrows;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -69,12 +72,30 @@ public interface Service<ENTITY extends Entity<ID>, ID extends Serializable> {
         }
     }
 
+    /**
+     * Creates the entity if it is new, otherwise updates only the given attributes of it.
+     *
+     * @param entity            The entity to be created or updated.
+     * @param changedAttributes The names of the attributes changed since the entity was read.
+     * @return The created or updated entity.
+     * @see #update(Entity, Collection)
+     */
+    @Transactional
+    default ENTITY createOrUpdate(@Nonnull ENTITY entity, @Nonnull Collection<String> changedAttributes) {
+        if (entity.isNew()) {
+            return create(entity);
+        } else {
+            return update(entity, changedAttributes);
+        }
+    }
+
     /**
      * Retrieves an entity by its identifier. Throws an exception if no entity found.
      *
      * @param id The identifier of the entity to retrieve.
      * @return The found entity.
      */
+    @Transactional(readOnly = true)
     @Nonnull
     default ENTITY read(@Nonnull ID id) {
         return getRepository().getReferenceById(id);
@@ -85,6 +106,7 @@ public interface Service<ENTITY extends Entity<ID>, ID extends Serializable> {
      *
      * @param entity The entity to update.
      * @return The updated entity.
+     * @throws OptimisticLockingFailureException If the entity was changed by someone else since it was read.
      */
     @Transactional
     @Nonnull
@@ -92,6 +114,21 @@ public interface Service<ENTITY extends Entity<ID>, ID extends Serializable> {
         return getRepository().save(entity);
     }
 
+    /**
+     * Updates the given attributes of an existing, possibly detached entity. Implementations may write only
+     * these attributes without reading the entity again; by default the whole entity is updated.
+     *
+     * @param entity            The entity to update.
+     * @param changedAttributes The names of the attributes changed since the entity was read.
+     * @return The updated entity.
+     * @throws OptimisticLockingFailureException If the entity was changed by someone else since it was read.
+     */
+    @Transactional
+    @Nonnull
+    default ENTITY update(@Nonnull ENTITY entity, @Nonnull Collection<String> changedAttributes) {
+        return update(entity);
+    }
+
     /**
      * Deletes an entity by its identifier.
      *
@@ -112,12 +149,47 @@ public interface Service<ENTITY extends Entity<ID>, ID extends Serializable> {
         getRepository().delete(entity);
     }
 
+    /**
+     * Creates the given entities in a single transaction.
+     *
+     * @param entities The entities to create.
+     * @return The saved entities in the same order.
+     */
+    @Transactional
+    @Nonnull
+    default List<ENTITY> createAll(@Nonnull Collection<ENTITY> entities) {
+        return getRepository().saveAll(entities);
+    }
+
+    /**
+     * Updates the given entities in a single transaction.
+     *
+     * @param entities The entities to update.
+     * @return The updated entities in the same order.
+     */
+    @Transactional
+    @Nonnull
+    default List<ENTITY> updateAll(@Nonnull Collection<ENTITY> entities) {
+        return getRepository().saveAll(entities);
+    }
+
+    /**
+     * Deletes the entities with the given identifiers in a single transaction.
+     *
+     * @param ids The identifiers of the entities to delete.
+     */
+    @Transactional
+    default void deleteAllById(@Nonnull Collection<ID> ids) {
+        getRepository().deleteAllById(ids);
+    }
+
     /**
      * Finds an entity by its identifier.
      *
      * @param id The identifier of the entity to find.
      * @return An Optional containing the found entity or empty if not found.
      */
+    @Transactional(readOnly = true)
     @Nonnull
     default Optional<ENTITY> find(@Nonnull ID id) {
         return getRepository().findById(id);
@@ -0,0 +1,235 @@
+package io.taf.utils;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.support.AbstractResourceBasedMessageSource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Message source compiling all registered basenames for all locales found on the classpath into an
+ * immutable table, with the message format patterns parsed in advance. The table is built once, when all
+ * singletons are instantiated or on the first lookup, and rebuilt only if the basenames change.
+ * Resolving a message is a map lookup without locking and without access to the bundle files.
+ */
+public class CompiledMessageSource extends AbstractResourceBasedMessageSource implements SmartInitializingSingleton {
+
+    private static final String PROPERTIES_SUFFIX = ".properties";
+
+    private final ResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+
+    private final Set<Locale> supportedLocales = new LinkedHashSet<>();
+
+    private volatile MessageTable table;
+
+    /**
+     * Sets the locales to compile in addition to the ones found next to the basenames. Locale specific bundles
+     * packed in the root of a jar cannot be found by a classpath pattern, their locales have to be listed here.
+     *
+     * @param locales the supported locales
+     */
+    public void setSupportedLocales(@Nonnull Collection<Locale> locales) {
+        supportedLocales.clear();
+        supportedLocales.addAll(locales);
+        table = null;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        getTable();
+    }
+
+    @Override
+    public void setBasenames(String... basenames) {
+        super.setBasenames(basenames);
+        table = null;
+    }
+
+    @Override
+    public void addBasenames(String... basenames) {
+        super.addBasenames(basenames);
+        table = null;
+    }
+
+    @Override
+    @Nullable
+    protected String resolveCodeWithoutArguments(@Nonnull String code, @Nonnull Locale locale) {
+        return Optional.ofNullable(getTable().find(locale).get(code))
+                .map(CompiledMessage::message)
+                .orElse(null);
+    }
+
+    @Override
+    @Nullable
+    protected MessageFormat resolveCode(@Nonnull String code, @Nonnull Locale locale) {
+        return Optional.ofNullable(getTable().find(locale).get(code))
+                .map(CompiledMessage::format)
+                .orElse(null);
+    }
+
+    @Nonnull
+    private MessageTable getTable() {
+        var result = table;
+        if (result == null) {
+            synchronized (this) {
+                result = table;
+                if (result == null) {
+                    result = compile();
+                    table = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Nonnull
+    private MessageTable compile() {
+        var basenames = new ArrayList<>(getBasenameSet());
+        var locales = new LinkedHashSet<>(supportedLocales);
+        basenames.forEach(basename -> locales.addAll(findLocales(basename)));
+
+        var bundles = new HashMap<String, Properties>();
+        var tables = new HashMap<Locale, Map<String, CompiledMessage>>();
+        for (var locale : locales) {
+            tables.put(locale, compile(basenames, locale, bundles));
+        }
+
+        return new MessageTable(Map.copyOf(tables), compile(basenames, Locale.ROOT, bundles), getDefaultLocale());
+    }
+
+    /**
+     * Compiles the messages of a locale. Like {@link org.springframework.context.support.ReloadableResourceBundleMessageSource},
+     * an earlier basename wins over a later one, and within a basename the most specific locale wins.
+     */
+    @Nonnull
+    private Map<String, CompiledMessage> compile(@Nonnull List<String> basenames, @Nonnull Locale locale,
+                                                 @Nonnull Map<String, Properties> bundles) {
+        var result = new HashMap<String, CompiledMessage>();
+        for (var basename : basenames) {
+            for (var filename : calculateFilenames(basename, locale)) {
+                var properties = bundles.computeIfAbsent(filename, this::loadProperties);
+                properties.stringPropertyNames().forEach(code -> result.computeIfAbsent(code,
+                        c -> compileMessage(filename, c, properties.getProperty(c), locale)));
+            }
+        }
+        return Map.copyOf(result);
+    }
+
+    @Nonnull
+    private List<String> calculateFilenames(@Nonnull String basename, @Nonnull Locale locale) {
+        var result = new ArrayList<String>();
+        if (!locale.getCountry().isEmpty()) {
+            result.add(basename + "_" + locale.getLanguage() + "_" + locale.getCountry());
+        }
+        if (!locale.getLanguage().isEmpty()) {
+            result.add(basename + "_" + locale.getLanguage());
+        }
+        result.add(basename);
+        return result;
+    }
+
+    @Nonnull
+    private CompiledMessage compileMessage(@Nonnull String filename, @Nonnull String code,
+                                           @Nonnull String message, @Nonnull Locale locale) {
+        try {
+            return new CompiledMessage(message, createMessageFormat(message, locale));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid message format of " + code + " in " + filename, e);
+        }
+    }
+
+    @Nonnull
+    private Set<Locale> findLocales(@Nonnull String basename) {
+        var result = new LinkedHashSet<Locale>();
+        var name = StringUtils.getFilename(basename.substring(basename.indexOf(':') + 1));
+        try {
+            for (Resource resource : resourceResolver.getResources(toPattern(basename) + "_*" + PROPERTIES_SUFFIX)) {
+                var filename = Optional.ofNullable(resource.getFilename()).orElse("");
+                var suffix = filename.substring(name.length() + 1, filename.length() - PROPERTIES_SUFFIX.length());
+                try {
+                    Optional.ofNullable(StringUtils.parseLocale(suffix))
+                            .filter(locale -> !locale.getLanguage().isEmpty())
+                            .ifPresent(result::add);
+                } catch (IllegalArgumentException e) {
+                    // Not a locale suffix, e.g. another bundle sharing the prefix of the basename
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result;
+    }
+
+    @Nonnull
+    private Properties loadProperties(@Nonnull String filename) {
+        var properties = new Properties();
+        try {
+            for (Resource resource : resourceResolver.getResources(toPattern(filename) + PROPERTIES_SUFFIX)) {
+                try (var reader = new InputStreamReader(resource.getInputStream(), getEncoding())) {
+                    var bundle = new Properties();
+                    bundle.load(reader);
+                    bundle.forEach(properties::putIfAbsent);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return properties;
+    }
+
+    @Nonnull
+    private String toPattern(@Nonnull String basename) {
+        return basename.startsWith(ResourcePatternResolver.CLASSPATH_URL_PREFIX)
+                ? ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + basename.substring(ResourcePatternResolver.CLASSPATH_URL_PREFIX.length())
+                : basename;
+    }
+
+    @Nonnull
+    private Charset getEncoding() {
+        return Optional.ofNullable(getDefaultEncoding())
+                .map(Charset::forName)
+                .orElse(StandardCharsets.ISO_8859_1);
+    }
+
+    private record CompiledMessage(@Nonnull String message, @Nonnull MessageFormat format) {
+    }
+
+    private record MessageTable(@Nonnull Map<Locale, Map<String, CompiledMessage>> tables,
+                                @Nonnull Map<String, CompiledMessage> root,
+                                @Nullable Locale defaultLocale) {
+
+        @Nonnull
+        Map<String, CompiledMessage> find(@Nonnull Locale locale) {
+            var result = tables.get(locale);
+            if (result == null && !locale.getCountry().isEmpty()) {
+                result = tables.get(new Locale(locale.getLanguage()));
+            }
+            if (result == null && defaultLocale != null) {
+                result = tables.get(defaultLocale);
+            }
+            return result != null ? result : root;
+        }
+
+    }
+
+}
@@ -1,7 +1,13 @@
 package io.taf.utils;
 
 import io.taf.entity.Entity;
+import jakarta.annotation.Nonnull;
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.util.ReflectionUtils;
 
 import java.io.Serializable;
@@ -9,6 +15,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @UtilityClass
 public class EntityUtils {
@@ -29,4 +36,47 @@ public class EntityUtils {
         return fields;
     }
 
+    public <ENTITY extends Entity<? extends Serializable>> boolean isKeysetProperty(@Nonnull Class<ENTITY> cls, @Nonnull String property) {
+        return Optional.ofNullable(ReflectionUtils.findField(cls, property))
+                .filter(field -> !field.isAnnotationPresent(Transient.class))
+                .filter(field -> field.isAnnotationPresent(Id.class)
+                        || Optional.ofNullable(field.getAnnotation(Column.class)).map(column -> !column.nullable()).orElse(false))
+                .isPresent();
+    }
+
+    /**
+     * Resolves the physical table name of the entity. Uses {@link Table#name()} if specified, otherwise
+     * the class name converted the same way as the default Spring Boot physical naming strategy does.
+     *
+     * @param cls the entity class
+     * @return the table name
+     */
+    @Nonnull
+    public String getTableName(@Nonnull Class<?> cls) {
+        return Optional.ofNullable(cls.getAnnotation(Table.class))
+                .map(Table::name)
+                .filter(StringUtils::isNotBlank)
+                .orElseGet(() -> toPhysicalName(cls.getSimpleName()));
+    }
+
+    /**
+     * Resolves the physical column name of the field. Uses {@link Column#name()} if specified, otherwise
+     * the field name converted the same way as the default Spring Boot physical naming strategy does.
+     *
+     * @param field the entity field
+     * @return the column name
+     */
+    @Nonnull
+    public String getColumnName(@Nonnull Field field) {
+        return Optional.ofNullable(field.getAnnotation(Column.class))
+                .map(Column::name)
+                .filter(StringUtils::isNotBlank)
+                .orElseGet(() -> toPhysicalName(field.getName()));
+    }
+
+    @Nonnull
+    private String toPhysicalName(@Nonnull String name) {
+        return String.join("_", StringUtils.splitByCharacterTypeCamelCase(name)).toLowerCase();
+    }
+
 }
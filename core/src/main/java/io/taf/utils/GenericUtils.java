@@ -3,14 +3,55 @@ package io.taf.utils;
 import lombok.experimental.UtilityClass;
 import org.springframework.core.GenericTypeResolver;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 @UtilityClass
 public class GenericUtils {
 
+    /**
+     * Resolved type arguments per current class and generic class. {@link ClassValue} keeps the cache
+     * attached to the current class, so it does not prevent the class from being unloaded.
+     */
+    private final ClassValue<Map<Class<?>, Class<?>[]>> TYPE_ARGUMENTS = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, Class<?>[]> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final LongAdder HITS = new LongAdder();
+
+    private final LongAdder MISSES = new LongAdder();
+
     @SuppressWarnings("unchecked")
     public <T> Class<T> getType(Class<?> currentClass, Class<?> genericClass, int genericNumber) {
-        return (Class<T>) Objects.requireNonNull(GenericTypeResolver.resolveTypeArguments(currentClass, genericClass))[genericNumber];
+        var typeArguments = TYPE_ARGUMENTS.get(currentClass);
+        var resolved = typeArguments.get(genericClass);
+        if (resolved != null) {
+            HITS.increment();
+        } else {
+            MISSES.increment();
+            resolved = typeArguments.computeIfAbsent(genericClass, cls ->
+                    Objects.requireNonNull(GenericTypeResolver.resolveTypeArguments(currentClass, cls)));
+        }
+        return (Class<T>) resolved[genericNumber];
+    }
+
+    /**
+     * @return the number of {@link #getType} calls served from the cache
+     */
+    public long getHitCount() {
+        return HITS.sum();
+    }
+
+    /**
+     * @return the number of {@link #getType} calls that had to resolve the type arguments
+     */
+    public long getMissCount() {
+        return MISSES.sum();
     }
 
 }
@@ -2,15 +2,24 @@ package io.taf.utils;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.experimental.Delegate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.MessageSourceAware;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.AbstractResourceBasedMessageSource;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
 
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 @Component
@@ -19,13 +28,49 @@ public class MessageProvider implements MessageSourceAware {
     public static final String VALUE_START = "${";
     public static final String VALUE_END = "}";
 
+    private static volatile MessageProvider instance;
+
     @Delegate
     @Getter(onMethod_ = {@Nonnull})
     private MessageSource messageSource;
 
+    /**
+     * Resolved messages without arguments by code and locale. A missing message is cached as empty,
+     * so the default message is applied without asking the message source again.
+     */
+    private final Map<MessageKey, Optional<String>> cache = new ConcurrentHashMap<>();
+
+    @Value("${taf.messages.cache.enabled:true}")
+    @Getter
+    private boolean cacheEnabled;
+
+    /**
+     * Whether the message source re-reads changed bundles. The resolved messages are not cached then, since
+     * they would hide the reloaded texts.
+     */
+    @Getter
+    private boolean sourceReloading;
+
     @Override
     public void setMessageSource(@Nonnull MessageSource messageSource) {
         this.messageSource = messageSource;
+        this.sourceReloading = isReloading(messageSource);
+    }
+
+    @PostConstruct
+    public void init() {
+        instance = this;
+    }
+
+    /**
+     * Drops the resolved messages, and the cached bundles of a reloadable message source.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void clearCache() {
+        cache.clear();
+        if (messageSource instanceof ReloadableResourceBundleMessageSource reloadableMessageSource) {
+            reloadableMessageSource.clearCache();
+        }
     }
 
     // Messages
@@ -35,7 +80,7 @@ public class MessageProvider implements MessageSourceAware {
     }
 
     public String getMessage(@Nonnull String code, @Nullable String defaultMessage) {
-        return getMessage(code, null, defaultMessage, LocaleContextHolder.getLocale());
+        return resolveMessage(code, null, defaultMessage, LocaleContextHolder.getLocale());
     }
 
     // Values
@@ -58,7 +103,7 @@ public class MessageProvider implements MessageSourceAware {
             code = code.substring(VALUE_START.length(), code.length() - VALUE_END.length());
         }
 
-        return getMessage(code, args, defaultMessage, null);
+        return resolveMessage(code, args, defaultMessage, null);
     }
 
     public String getValue(@Nonnull String code, @Nullable Object[] args, @Nullable String defaultMessage, @Nullable Locale locale) {
@@ -67,7 +112,7 @@ public class MessageProvider implements MessageSourceAware {
             return defaultMessage;
         }
 
-        return getMessage(defineCode(code), args, defaultMessage, defineLocale(locale));
+        return resolveMessage(defineCode(code), args, defaultMessage, defineLocale(locale));
     }
 
     // Others
@@ -85,6 +130,29 @@ public class MessageProvider implements MessageSourceAware {
     }
 
 
+    private String resolveMessage(@Nonnull String code, @Nullable Object[] args, @Nullable String defaultMessage, @Nullable Locale locale) {
+        if (!cacheEnabled || sourceReloading || (args != null && args.length > 0)) {
+            return getMessage(code, args, defaultMessage, locale);
+        }
+
+        return cache.computeIfAbsent(new MessageKey(code, locale),
+                        key -> Optional.ofNullable(getMessage(key.code(), null, null, key.locale())))
+                .orElse(defaultMessage);
+    }
+
+    private boolean isReloading(@Nonnull MessageSource messageSource) {
+        if (!(messageSource instanceof ReloadableResourceBundleMessageSource)) {
+            return false;
+        }
+        // The cache duration is only exposed to subclasses; a negative one caches the bundles forever
+        var method = ReflectionUtils.findMethod(AbstractResourceBasedMessageSource.class, "getCacheMillis");
+        if (method == null) {
+            return true;
+        }
+        ReflectionUtils.makeAccessible(method);
+        return (long) ReflectionUtils.invokeMethod(method, messageSource) >= 0;
+    }
+
     private String defineCode(@Nonnull String code) {
         if (code.startsWith(VALUE_START) && code.endsWith(VALUE_END)) {
             return code.substring(VALUE_START.length(), code.length() - VALUE_END.length());
@@ -98,11 +166,16 @@ public class MessageProvider implements MessageSourceAware {
 
 
     public static MessageProvider getMessageProvider() {
-        return ApplicationContextProvider.getApplicationContext().getBean(MessageProvider.class);
+        return Optional.ofNullable(instance)
+                .orElseGet(() -> ApplicationContextProvider.getApplicationContext().getBean(MessageProvider.class));
     }
 
     public static Function<String, String> getMessageProviderValueFunctional() {
-        return s -> getMessageProvider().getValue(s);
+        var messageProvider = getMessageProvider();
+        return messageProvider::getValue;
+    }
+
+    private record MessageKey(@Nonnull String code, @Nullable Locale locale) {
     }
 
 }
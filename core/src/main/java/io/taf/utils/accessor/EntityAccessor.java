@@ -0,0 +1,165 @@
+package io.taf.utils.accessor;
+
+import jakarta.annotation.Nonnull;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Holds the {@link PropertyAccessor property accessors} of a bean class. Accessors are created on first use
+ * and kept for the lifetime of the class. Getters and setters are bound with {@link LambdaMetafactory}
+ * to the Lombok generated accessor methods; if that is not possible a {@link MethodHandle} is used,
+ * and the field itself is the last resort.
+ *
+ * @param <T> the bean type
+ */
+@SuppressWarnings("unchecked")
+public final class EntityAccessor<T> {
+
+    private static final ClassValue<EntityAccessor<?>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected EntityAccessor<?> computeValue(Class<?> type) {
+            return new EntityAccessor<>(type);
+        }
+    };
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<T> beanClass;
+
+    private final Map<String, PropertyAccessor<T>> properties = new ConcurrentHashMap<>();
+
+    private EntityAccessor(@Nonnull Class<T> beanClass) {
+        this.beanClass = beanClass;
+    }
+
+    @Nonnull
+    public static <T> EntityAccessor<T> of(@Nonnull Class<T> beanClass) {
+        return (EntityAccessor<T>) ACCESSORS.get(beanClass);
+    }
+
+    @Nonnull
+    public Class<T> getBeanClass() {
+        return beanClass;
+    }
+
+    @Nonnull
+    public PropertyAccessor<T> getAccessor(@Nonnull Field field) {
+        return properties.computeIfAbsent(field.getName(), name -> createAccessor(field));
+    }
+
+    @Nonnull
+    public PropertyAccessor<T> getAccessor(@Nonnull String name) {
+        return properties.computeIfAbsent(name, n -> Optional.ofNullable(ReflectionUtils.findField(beanClass, n))
+                .map(this::createAccessor)
+                .orElseThrow(() -> new IllegalArgumentException("No property " + n + " in " + beanClass.getName())));
+    }
+
+    @Nonnull
+    private PropertyAccessor<T> createAccessor(@Nonnull Field field) {
+        var getter = findGetter(field)
+                .map(this::createGetter)
+                .orElseGet(() -> createFieldGetter(field));
+        var setter = findSetter(field)
+                .map(this::createSetter)
+                .orElseGet(() -> createFieldSetter(field));
+        return new PropertyAccessor<>(field, getter, setter);
+    }
+
+    @Nonnull
+    private Optional<Method> findGetter(@Nonnull Field field) {
+        var suffix = StringUtils.capitalize(field.getName());
+        return Optional.ofNullable(ReflectionUtils.findMethod(beanClass, "get" + suffix))
+                .or(() -> Optional.ofNullable(ReflectionUtils.findMethod(beanClass, "is" + suffix)))
+                .filter(method -> ClassUtils.isAssignable(field.getType(), method.getReturnType()));
+    }
+
+    @Nonnull
+    private Optional<Method> findSetter(@Nonnull Field field) {
+        var name = "set" + StringUtils.capitalize(field.getName());
+        return Optional.ofNullable(ReflectionUtils.findMethod(beanClass, name, field.getType()));
+    }
+
+    @Nonnull
+    private Function<Object, Object> createGetter(@Nonnull Method method) {
+        try {
+            var lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            var handle = lookup.unreflect(method);
+            try {
+                var site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+                        GETTER_TYPE, handle, handle.type().wrap());
+                return (Function<Object, Object>) site.getTarget().invokeExact();
+            } catch (Throwable e) {
+                var generic = handle.asType(GETTER_TYPE);
+                return bean -> invokeGetter(generic, bean);
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access getter " + method, e);
+        }
+    }
+
+    @Nonnull
+    private BiConsumer<Object, Object> createSetter(@Nonnull Method method) {
+        try {
+            var lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            var handle = lookup.unreflect(method);
+            try {
+                var site = LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+                        SETTER_TYPE, handle, handle.type().wrap().changeReturnType(void.class));
+                return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+            } catch (Throwable e) {
+                var generic = handle.asType(SETTER_TYPE);
+                return (bean, value) -> invokeSetter(generic, bean, value);
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access setter " + method, e);
+        }
+    }
+
+    @Nonnull
+    private Function<Object, Object> createFieldGetter(@Nonnull Field field) {
+        ReflectionUtils.makeAccessible(field);
+        return bean -> ReflectionUtils.getField(field, bean);
+    }
+
+    @Nonnull
+    private BiConsumer<Object, Object> createFieldSetter(@Nonnull Field field) {
+        ReflectionUtils.makeAccessible(field);
+        return (bean, value) -> ReflectionUtils.setField(field, bean, value);
+    }
+
+    private static Object invokeGetter(@Nonnull MethodHandle handle, @Nonnull Object bean) {
+        try {
+            return handle.invokeExact(bean);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void invokeSetter(@Nonnull MethodHandle handle, @Nonnull Object bean, Object value) {
+        try {
+            handle.invokeExact(bean, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package io.taf.utils.accessor;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Reads and writes a single property of a bean. The getter and the setter are generated once from the
+ * accessor methods of the property (or the field itself if there are none), so an access is a plain
+ * interface call without reflective access checks.
+ *
+ * @param <T> the bean type
+ */
+public final class PropertyAccessor<T> {
+
+    private final Field field;
+
+    private final Function<Object, Object> getter;
+
+    private final BiConsumer<Object, Object> setter;
+
+    PropertyAccessor(@Nonnull Field field,
+                     @Nonnull Function<Object, Object> getter,
+                     @Nonnull BiConsumer<Object, Object> setter) {
+        this.field = field;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    @Nonnull
+    public Field getField() {
+        return field;
+    }
+
+    @Nonnull
+    public String getName() {
+        return field.getName();
+    }
+
+    @Nonnull
+    public Class<?> getType() {
+        return field.getType();
+    }
+
+    @Nullable
+    public Object get(@Nonnull T bean) {
+        return getter.apply(Objects.requireNonNull(bean));
+    }
+
+    public void set(@Nonnull T bean, @Nullable Object value) {
+        setter.accept(Objects.requireNonNull(bean), value);
+    }
+
+}
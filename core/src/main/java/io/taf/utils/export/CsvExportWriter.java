@@ -0,0 +1,79 @@
+package io.taf.utils.export;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes RFC 4180 CSV in UTF-8 with a byte order mark, so spreadsheet applications detect the encoding.
+ * Text values starting like a formula are prefixed with an apostrophe, so spreadsheet applications show them
+ * as text instead of evaluating them.
+ */
+class CsvExportWriter<T> implements ExportWriter<T> {
+
+    private static final char SEPARATOR = ',';
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final Writer writer;
+
+    private final List<ExportColumn<T>> columns;
+
+    CsvExportWriter(@Nonnull OutputStream output, @Nonnull List<ExportColumn<T>> columns) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        this.columns = columns;
+        writer.write('\uFEFF');
+        writeLine(columns.stream().map(ExportColumn::header).toList());
+    }
+
+    @Override
+    public void write(@Nonnull T row) {
+        try {
+            writeLine(columns.stream().map(column -> column.value().apply(row)).toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeLine(@Nonnull List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writeValue(values.get(i));
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private void writeValue(@Nullable Object value) throws IOException {
+        var text = Objects.toString(value, "");
+        // Numbers are left as they are, so negative values stay numeric
+        if (!(value instanceof Number) && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(SEPARATOR) < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+}
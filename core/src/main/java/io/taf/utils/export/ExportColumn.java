@@ -0,0 +1,15 @@
+package io.taf.utils.export;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.function.Function;
+
+/**
+ * Column of an export: the header and the function extracting the cell value of a row.
+ *
+ * @param header the column header
+ * @param value  the cell value extractor
+ * @param <T>    the row type
+ */
+public record ExportColumn<T>(@Nonnull String header, @Nonnull Function<? super T, ?> value) {
+}
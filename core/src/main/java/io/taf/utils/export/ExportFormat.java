@@ -0,0 +1,21 @@
+package io.taf.utils.export;
+
+import jakarta.annotation.Nonnull;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * File formats the list data can be exported to.
+ */
+@Getter(onMethod_ = {@Nonnull})
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+    CSV("csv", "text/csv"),
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+    private final String extension;
+
+    private final String contentType;
+
+}
@@ -0,0 +1,59 @@
+package io.taf.utils.export;
+
+import io.taf.entity.Entity;
+import io.taf.utils.ListDataViewUtils;
+import io.taf.utils.accessor.EntityAccessor;
+import io.taf.utils.grid.GridColumnConfig;
+import jakarta.annotation.Nonnull;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+@UtilityClass
+public class ExportUtils {
+
+    /**
+     * Creates the export columns of the fields displayed on the list view, with the headers
+     * of their {@link GridColumnConfig}. A field without a configured header is titled with its name.
+     *
+     * @param cls          the entity class
+     * @param textResolver the resolver of the header texts
+     * @param <T>          the entity type
+     * @return the export columns in display order
+     */
+    @Nonnull
+    public <T extends Entity<? extends Serializable>> List<ExportColumn<T>> createColumns(@Nonnull Class<T> cls,
+                                                                                        @Nonnull Function<String, String> textResolver) {
+        var accessor = EntityAccessor.of(cls);
+        return ListDataViewUtils.getDisplayableFields(cls).stream()
+                .map(accessor::getAccessor)
+                .map(property -> new ExportColumn<T>(getHeader(property.getField(), textResolver), property::get))
+                .toList();
+    }
+
+    @Nonnull
+    public <T> ExportWriter<T> createWriter(@Nonnull ExportFormat format, @Nonnull OutputStream output,
+                                            @Nonnull List<ExportColumn<T>> columns) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvExportWriter<>(output, columns);
+            case XLSX -> new XlsxExportWriter<>(output, columns);
+        };
+    }
+
+    @Nonnull
+    private String getHeader(@Nonnull Field field, @Nonnull Function<String, String> textResolver) {
+        return Optional.ofNullable(field.getAnnotation(GridColumnConfig.class))
+                .map(GridColumnConfig::header)
+                .filter(StringUtils::isNotBlank)
+                .map(textResolver)
+                .orElseGet(field::getName);
+    }
+
+}
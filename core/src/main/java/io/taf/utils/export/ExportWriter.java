@@ -0,0 +1,26 @@
+package io.taf.utils.export;
+
+import jakarta.annotation.Nonnull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes the rows of an export one by one to an output stream. Closing the writer finishes the document,
+ * the output stream itself is left open.
+ *
+ * @param <T> the row type
+ */
+public interface ExportWriter<T> extends Closeable {
+
+    /**
+     * @param row the row to write
+     * @throws UncheckedIOException if the row cannot be written
+     */
+    void write(@Nonnull T row);
+
+    @Override
+    void close() throws IOException;
+
+}
@@ -0,0 +1,86 @@
+package io.taf.utils.export;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes an Excel workbook with the streaming {@link SXSSFWorkbook}: only a window of rows is kept in memory,
+ * the older rows are spooled to a compressed temporary file. Nothing reaches the output stream while rows are
+ * written; the whole workbook is assembled from the temporary file and written in {@link #close()}, so the
+ * response starts only after the last row and the temporary file needs disk space for the entire sheet.
+ * When a sheet reaches the row limit of the format, the export continues on a new sheet.
+ */
+class XlsxExportWriter<T> implements ExportWriter<T> {
+
+    private static final int ROW_ACCESS_WINDOW = 100;
+
+    private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    private final OutputStream output;
+
+    private final List<ExportColumn<T>> columns;
+
+    private final SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+
+    private Sheet sheet;
+
+    private int rowIndex;
+
+    XlsxExportWriter(@Nonnull OutputStream output, @Nonnull List<ExportColumn<T>> columns) {
+        this.output = output;
+        this.columns = columns;
+        workbook.setCompressTempFiles(true);
+        createSheet();
+    }
+
+    @Override
+    public void write(@Nonnull T row) {
+        if (rowIndex == MAX_ROWS) {
+            createSheet();
+        }
+        var sheetRow = sheet.createRow(rowIndex++);
+        for (int i = 0; i < columns.size(); i++) {
+            setCellValue(sheetRow.createCell(i), columns.get(i).value().apply(row));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(output);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private void createSheet() {
+        sheet = workbook.createSheet();
+        rowIndex = 0;
+        var header = sheet.createRow(rowIndex++);
+        for (int i = 0; i < columns.size(); i++) {
+            header.createCell(i).setCellValue(columns.get(i).header());
+        }
+    }
+
+    private void setCellValue(@Nonnull Cell cell, @Nullable Object value) {
+        if (value == null) {
+            cell.setBlank();
+        } else if (value instanceof Number number) {
+            cell.setCellValue(number.doubleValue());
+        } else if (value instanceof Boolean bool) {
+            cell.setCellValue(bool);
+        } else {
+            cell.setCellValue(value.toString());
+        }
+    }
+
+}
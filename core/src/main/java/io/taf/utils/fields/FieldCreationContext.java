@@ -5,16 +5,15 @@ import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import lombok.AccessLevel;
 import lombok.Getter;
-import org.reflections.ReflectionUtils;
-import org.reflections.Reflections;
-import org.reflections.scanners.Scanners;
-import org.reflections.util.ConfigurationBuilder;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.util.HashSet;
-import java.util.List;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -22,20 +21,18 @@ import java.util.stream.Collectors;
 @SuppressWarnings({"unchecked", "rawtypes"})
 public class FieldCreationContext {
 
-    @Getter(value = AccessLevel.PACKAGE, onMethod_ = {@Nonnull}, lazy = true)
-    private final Reflections reflections = initReflections();
-
     @Getter(onMethod_ = {@Nonnull}, lazy = true)
     private final Set<FieldCreationStrategy> strategies = initStrategies();
 
     @Getter(onMethod_ = {@Nonnull}, lazy = true)
     private final Set<Class<? extends Annotation>> configAnnotations = initConfigAnnotations();
 
+    @Getter(value = AccessLevel.PACKAGE, onMethod_ = {@Nonnull}, lazy = true)
+    private final Map<Class<? extends Annotation>, FieldCreationStrategy> strategiesByAnnotation = initStrategiesByAnnotation();
+
     @Nonnull
     public Optional<AbstractField> createField(@Nonnull Field field, @Nullable Function<String, String> textResolver) {
-        return getStrategies().stream()
-                .filter(fieldCreationStrategy -> fieldCreationStrategy.isSupported(field))
-                .findFirst()
+        return findStrategy(field)
                 .map(fieldCreationStrategy -> {
                     var tr = Optional.ofNullable(textResolver)
                             .orElseGet(fieldCreationStrategy::defaultTextResolver);
@@ -44,37 +41,64 @@ public class FieldCreationContext {
                 .or(Optional::empty);
     }
 
+    /**
+     * Finds the strategy creating the component of the field. The strategy is looked up by the annotations
+     * declared on the field, so every field costs a single pass over its annotations.
+     *
+     * @param field the field to find the strategy for
+     * @return the strategy or empty if the field has no field creation annotation
+     * @throws IllegalStateException if the field has annotations of several strategies
+     */
     @Nonnull
-    private Reflections initReflections() {
-        var packageName = FieldCreationContext.class.getPackageName();
-        var configuration = new ConfigurationBuilder().forPackage(packageName);
-        return new Reflections(configuration);
+    public Optional<FieldCreationStrategy> findStrategy(@Nonnull Field field) {
+        var strategiesByAnnotation = getStrategiesByAnnotation();
+        FieldCreationStrategy result = null;
+        for (var annotation : field.getDeclaredAnnotations()) {
+            var strategy = strategiesByAnnotation.get(annotation.annotationType());
+            if (strategy == null || !strategy.isSupported(field)) {
+                continue;
+            }
+            if (result != null && result != strategy) {
+                throw new IllegalStateException("Field " + field + " has conflicting field creation annotations "
+                        + result.getMarkedAnnotation().getSimpleName() + " and " + strategy.getMarkedAnnotation().getSimpleName());
+            }
+            result = strategy;
+        }
+        return Optional.ofNullable(result);
     }
 
+    /**
+     * Loads the strategies registered in {@code META-INF/services/io.taf.utils.fields.FieldCreationStrategy}.
+     * Application modules register their own strategies the same way.
+     */
     @Nonnull
     private Set<FieldCreationStrategy> initStrategies() {
+        return ServiceLoader.load(FieldCreationStrategy.class).stream()
+                .map(ServiceLoader.Provider::get)
+                .sorted(Comparator.comparingInt(FieldCreationStrategy::getOrder)
+                        .thenComparing(strategy -> strategy.getClass().getName()))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
 
-        var reflections = getReflections();
-        var query = Scanners.SubTypes.of(FieldCreationStrategy.class).asClass();
-
-        return reflections.get(query).stream()
-                .map(clazz -> (Class<FieldCreationStrategy>) clazz)
-                .map(cls -> FieldUtils.createInstance(cls, FieldCreationStrategy.class))
-                .collect(Collectors.toSet());
-
+    @Nonnull
+    private Map<Class<? extends Annotation>, FieldCreationStrategy> initStrategiesByAnnotation() {
+        var result = new HashMap<Class<? extends Annotation>, FieldCreationStrategy>();
+        getStrategies().forEach(strategy -> result.merge(strategy.getMarkedAnnotation(), strategy, (current, other) -> {
+            if (current.getOrder() == other.getOrder()) {
+                throw new IllegalStateException("Field creation strategies " + current.getClass().getName() + " and "
+                        + other.getClass().getName() + " have the same order for " + strategy.getMarkedAnnotation().getName());
+            }
+            return current;
+        }));
+        return Map.copyOf(result);
     }
 
     @Nonnull
     private Set<Class<? extends Annotation>> initConfigAnnotations() {
-
-        var reflections = getReflections();
-        var query = Scanners.SubTypes.of(Annotation.class)
-                .asClass()
-                .filter(ReflectionUtils.withAnnotation(FieldCreationConfig.class))
-                .map(cls -> (Class<? extends Annotation>) cls);
-
-        return new HashSet<>(reflections.get(query));
-
+        return getStrategies().stream()
+                .map(strategy -> (Class<? extends Annotation>) strategy.getMarkedAnnotation())
+                .filter(annotation -> annotation.isAnnotationPresent(FieldCreationConfig.class))
+                .collect(Collectors.toSet());
     }
 
 }
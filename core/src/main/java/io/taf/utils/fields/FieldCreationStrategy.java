@@ -16,6 +16,16 @@ public interface FieldCreationStrategy<F extends AbstractField> {
     @Nonnull
     Class<? extends Annotation> getMarkedAnnotation();
 
+    /**
+     * Defines the priority of the strategy. When several strategies are marked with the same annotation,
+     * the one with the lowest order is used.
+     *
+     * @return the order of the strategy
+     */
+    default int getOrder() {
+        return 0;
+    }
+
     default boolean isSupported(@Nonnull Field field) {
         return field.isAnnotationPresent(getMarkedAnnotation());
     }
@@ -6,7 +6,6 @@ import jakarta.annotation.Nullable;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 import org.apache.commons.lang3.StringUtils;
-import org.reflections.ReflectionUtils;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
@@ -32,6 +31,13 @@ public class FieldUtils {
 
     private final FieldCreationContext fieldCreationContext = new FieldCreationContext();
 
+    private final ClassValue<FormBlueprint> formBlueprints = new ClassValue<>() {
+        @Override
+        protected FormBlueprint computeValue(Class<?> type) {
+            return FormBlueprint.create(type, fieldCreationContext);
+        }
+    };
+
     /**
      * Creates a Vaadin component based on the annotated field. This method checks the field's
      * annotations and type to determine which component to create and how to configure it.
@@ -60,13 +66,22 @@ public class FieldUtils {
     @Nonnull
     public Map<Field, AbstractField> createFields(@Nonnull Class<?> cls, @Nonnull Function<String, String> textResolver) {
         var result = new LinkedHashMap<Field, AbstractField>();
-        ReflectionUtils.get(ReflectionUtils.Fields.of(cls))
-                .stream()
-                .sorted(Comparator.comparingInt(FieldUtils::getFiledOrder))
-                .forEach(field -> createField(field, textResolver).ifPresent(component -> result.put(field, component)));
+        getFormBlueprint(cls).fields()
+                .forEach(blueprint -> result.put(blueprint.field(), blueprint.createField(textResolver)));
         return result;
     }
 
+    /**
+     * Returns the form blueprint of the class. The blueprint is resolved on first use and cached for the class.
+     *
+     * @param cls the class the form is created for
+     * @return the form blueprint
+     */
+    @Nonnull
+    public FormBlueprint getFormBlueprint(@Nonnull Class<?> cls) {
+        return formBlueprints.get(cls);
+    }
+
 
     /**
      * Checks if the given field represents an array.
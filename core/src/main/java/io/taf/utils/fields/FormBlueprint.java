@@ -0,0 +1,52 @@
+package io.taf.utils.fields;
+
+import com.vaadin.flow.component.AbstractField;
+import jakarta.annotation.Nonnull;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Immutable description of the form of a class: the fields having a field creation strategy, ordered by
+ * {@link FieldOrder}, together with the matching strategy.
+ * A blueprint is resolved once per class, so creating a form only instantiates the components.
+ *
+ * @param beanClass the class the form is created for
+ * @param fields    the ordered field blueprints
+ */
+@SuppressWarnings("rawtypes")
+public record FormBlueprint(@Nonnull Class<?> beanClass, @Nonnull List<FieldBlueprint> fields) {
+
+    @Nonnull
+    static FormBlueprint create(@Nonnull Class<?> cls, @Nonnull FieldCreationContext context) {
+        var declaredFields = new ArrayList<Field>();
+        ReflectionUtils.doWithFields(cls, declaredFields::add);
+        var fields = declaredFields.stream()
+                .sorted(Comparator.comparingInt(FieldUtils::getFiledOrder))
+                .flatMap(field -> context.findStrategy(field)
+                        .map(strategy -> new FieldBlueprint(field, strategy))
+                        .stream())
+                .toList();
+        return new FormBlueprint(cls, fields);
+    }
+
+    /**
+     * Blueprint of a single form field.
+     *
+     * @param field    the field
+     * @param strategy the strategy creating the component of the field
+     */
+    public record FieldBlueprint(@Nonnull Field field, @Nonnull FieldCreationStrategy strategy) {
+
+        @Nonnull
+        public AbstractField createField(@Nonnull Function<String, String> textResolver) {
+            return strategy.createField(field, textResolver);
+        }
+
+    }
+
+}
@@ -2,13 +2,17 @@ package io.taf.utils.grid;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.data.provider.SortDirection;
 import io.taf.entity.Entity;
 import io.taf.utils.ListDataViewUtils;
 import io.taf.utils.MessageProvider;
+import io.taf.utils.accessor.EntityAccessor;
+import io.taf.utils.accessor.PropertyAccessor;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import lombok.experimental.UtilityClass;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Sort;
 
 import java.io.Serializable;
 import java.lang.reflect.Field;
@@ -26,25 +30,27 @@ public class GridUtils {
 
         var grid = new Grid<T>();
 
+        var accessor = EntityAccessor.of(cls);
         ListDataViewUtils.getDisplayableFields(cls).forEach(field ->
-                createColumn(grid, field, MessageProvider.getMessageProviderValueFunctional()));
+                createColumn(grid, accessor.getAccessor(field), MessageProvider.getMessageProviderValueFunctional()));
 
         return grid;
     }
 
     @Nonnull
+    @SuppressWarnings("unchecked")
     public <T> Grid.Column<T> createColumn(@Nonnull Grid<T> grid, @Nonnull Field field, @Nonnull Function<String, String> textResolver) {
+        var accessor = (PropertyAccessor<T>) EntityAccessor.of(field.getDeclaringClass()).getAccessor(field);
+        return createColumn(grid, accessor, textResolver);
+    }
+
+    @Nonnull
+    public <T> Grid.Column<T> createColumn(@Nonnull Grid<T> grid, @Nonnull PropertyAccessor<? super T> accessor, @Nonnull Function<String, String> textResolver) {
 
+        var field = accessor.getField();
         var annotation = field.getAnnotation(GridColumnConfig.class);
 
-        var column = grid.addColumn(entity -> {
-            field.setAccessible(true);
-            try {
-                return field.get(entity);
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException(e);
-            }
-        });
+        var column = grid.addColumn(accessor::get);
 
         resolveColumnId(column, field, annotation.id());
         resolveFieldKey(column, field, annotation.key());
@@ -61,6 +67,23 @@ public class GridUtils {
     }
 
 
+    /**
+     * Converts the current sort order of the grid to a Spring Data sort, with the same properties the grid
+     * passes to its data provider.
+     *
+     * @param grid the grid
+     * @return the sort, unsorted if the grid is not sorted
+     */
+    @Nonnull
+    public Sort getSort(@Nonnull Grid<?> grid) {
+        return Sort.by(grid.getSortOrder().stream()
+                .flatMap(order -> order.getSorted().getSortOrder(order.getDirection()))
+                .map(order -> order.getDirection() == SortDirection.DESCENDING
+                        ? Sort.Order.desc(order.getSorted())
+                        : Sort.Order.asc(order.getSorted()))
+                .toList());
+    }
+
     /**
      * Resolves the ID to be used for a column component in the UI. If a default value is provided
      * and is non-empty, it will be used as the ID. Otherwise, the ID is constructed using a predefined
@@ -1,6 +1,8 @@
 package io.taf.views.common;
 
 import io.taf.entity.DataEntity;
+import io.taf.meta.DataMetaElement;
+import io.taf.meta.MetaRegistry;
 import io.taf.service.DataService;
 import io.taf.utils.GenericUtils;
 import io.taf.utils.MessageProvider;
@@ -9,8 +11,10 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.util.ClassUtils;
 
 import java.io.Serializable;
+import java.util.Optional;
 
 public abstract class AbstractDataView<ENTITY extends DataEntity<ID>, ID extends Serializable>
         extends AbstractView
@@ -34,4 +38,19 @@ public abstract class AbstractDataView<ENTITY extends DataEntity<ID>, ID extends
     @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull})
     private AutowireCapableBeanFactory beanFactory;
 
+    @Autowired
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull})
+    private MetaRegistry metaRegistry;
+
+    /**
+     * Finds the data meta element this view is the list view or the item view of.
+     *
+     * @return the data meta element or empty if the view is not registered by one
+     */
+    @Nonnull
+    @SuppressWarnings("rawtypes")
+    public Optional<DataMetaElement> findMetaElement() {
+        return getMetaRegistry().findByViewClass(ClassUtils.getUserClass(this));
+    }
+
 }
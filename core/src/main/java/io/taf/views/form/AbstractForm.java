@@ -5,10 +5,8 @@ import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.HasValue;
 import com.vaadin.flow.component.formlayout.FormLayout;
 import com.vaadin.flow.component.textfield.NumberField;
-import com.vaadin.flow.data.binder.BeanValidationBinder;
 import com.vaadin.flow.data.binder.Setter;
 import com.vaadin.flow.function.ValueProvider;
-import io.taf.entity.AbstractEntity;
 import io.taf.entity.Entity;
 import io.taf.utils.GenericUtils;
 import io.taf.utils.MessageProvider;
@@ -16,12 +14,14 @@ import io.taf.utils.fields.FieldUtils;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.SneakyThrows;
-import org.apache.commons.lang3.StringUtils;
 
 import java.io.Serializable;
 import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -37,12 +37,21 @@ public abstract class AbstractForm<ENTITY extends Entity<? extends Serializable>
     private final List<Component> fields = initFields();
 
     @Getter(onMethod_ = {@Override, @Nonnull}, lazy = true)
-    private final BeanValidationBinder<ENTITY> binder = initBinder();
+    private final FormBinder<ENTITY> binder = initBinder();
+
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull}, lazy = true)
+    private final FormBindingPlan<ENTITY> bindingPlan = FormBindingPlan.of(getEntityClass());
 
     @Getter(onMethod_ = {@Nonnull}, lazy = true)
     @SuppressWarnings("rawtypes")
     private final Map<Field, AbstractField> fieldsMap = initFieldsMap();
 
+    @Getter(value = AccessLevel.PRIVATE, onMethod_ = {@Nonnull}, lazy = true)
+    private final Map<Component, Field> componentFieldsMap = initComponentFieldsMap();
+
+    @Getter(value = AccessLevel.PRIVATE, onMethod_ = {@Nonnull}, lazy = true)
+    private final Map<String, Component> propertyFieldsMap = initPropertyFieldsMap();
+
     @PostConstruct
     @Override
     public void init() {
@@ -70,83 +79,81 @@ public abstract class AbstractForm<ENTITY extends Entity<? extends Serializable>
 
     @Nonnull
     @SuppressWarnings({"unchecked", "rawtypes"})
-    protected BeanValidationBinder<ENTITY> initBinder() {
-        var binder = new BeanValidationBinder<>(getEntityClass());
-
-        getFields().stream()
+    protected FormBinder<ENTITY> initBinder() {
+        var components = getFields().stream()
                 .filter(component -> HasValue.class.isAssignableFrom(component.getClass()))
-                .forEach(component -> binder.bind((HasValue) component, createFieldGetter(component), createFieldSetter(component)));
+                .toList();
+        var binder = new FormBinder<>(getEntityClass(), components.stream()
+                .map(this::findEntityField)
+                .flatMap(Optional::stream)
+                .toList());
+
+        components.forEach(component -> binder.bind((HasValue) component, createFieldGetter(component), createFieldSetter(component)));
 
         return binder;
     }
 
     protected ValueProvider<ENTITY, Object> createFieldGetter(@Nonnull Component component) {
-        return entity -> findEntityField(component)
-                .map(field -> getValueFromField(entity, field, component))
-                .orElse(null);
+        return findEntityField(component)
+                .<ValueProvider<ENTITY, Object>>map(field -> entity -> getValueFromField(entity, field, component))
+                .orElseGet(() -> entity -> null);
     }
 
     protected Setter<ENTITY, Object> createFieldSetter(@Nonnull Component component) {
-        return (entity, value) -> findEntityField(component)
-                .ifPresent(field -> setValueToField(entity, field, value, component));
+        return findEntityField(component)
+                .<Setter<ENTITY, Object>>map(field -> (entity, value) -> setValueToField(entity, field, value, component))
+                .orElseGet(() -> (entity, value) -> {
+                });
     }
 
-    @SneakyThrows
     protected Object getValueFromField(@Nonnull ENTITY entity, @Nonnull Field field, @Nonnull Component component) {
-        field.setAccessible(true);
-        var value = field.get(entity);
+        var binding = getBindingPlan().getBinding(field);
+        var value = binding.accessor().get(entity);
 
-        if (StringUtils.equals(field.getName(), AbstractEntity.Fields.id)) {
-            return value.toString();
+        if (binding.id()) {
+            return value == null ? null : value.toString();
+        } else if (value instanceof Number number && component instanceof NumberField) {
+            return number.doubleValue();
         } else {
-            if (component.getClass().equals(NumberField.class) && value instanceof Number) {
-                return ((Number) value).doubleValue();
-            } else {
-                return field.get(entity);
-            }
+            return value;
         }
     }
 
-    @SneakyThrows
     protected void setValueToField(@Nonnull ENTITY entity, @Nonnull Field field, @Nullable Object value, @Nonnull Component component) {
-        field.setAccessible(true);
+        var binding = getBindingPlan().getBinding(field);
 
-        if (StringUtils.equals(field.getName(), AbstractEntity.Fields.id)) {
-            field.set(entity, entity.getIdClass().cast(value));
+        if (binding.id()) {
+            binding.accessor().set(entity, entity.getIdClass().cast(value));
+        } else if (value != null && component instanceof NumberField) {
+            binding.accessor().set(entity, binding.numberConverter().apply((Number) value));
         } else {
-
-            if (component.getClass().equals(NumberField.class) && value != null) {
-                var numberValue = (Number) value;
-
-                if (FieldUtils.isByteField(field)) {
-                    field.set(entity, numberValue.byteValue());
-                } else if (FieldUtils.isShortField(field)) {
-                    field.set(entity, numberValue.shortValue());
-                } else if (FieldUtils.isIntegerField(field)) {
-                    field.set(entity, numberValue.intValue());
-                } else if (FieldUtils.isLongField(field)) {
-                    field.set(entity, numberValue.longValue());
-                } else if (FieldUtils.isFloatField(field)) {
-                    field.set(entity, numberValue.floatValue());
-                } else if (FieldUtils.isDoubleField(field)) {
-                    field.set(entity, numberValue.doubleValue());
-                } else {
-                    field.set(entity, null);
-                }
-
-            } else {
-                field.set(entity, value);
-            }
-
+            binding.accessor().set(entity, value);
         }
     }
 
+    @Nonnull
+    @Override
+    public Optional<Component> findField(@Nonnull String propertyName) {
+        return Optional.ofNullable(getPropertyFieldsMap().get(propertyName));
+    }
+
     @Nonnull
     protected Optional<Field> findEntityField(Component component) {
-        return getFieldsMap().entrySet().stream()
-                .filter(entry -> entry.getValue().equals(component))
-                .findFirst()
-                .map(Map.Entry::getKey);
+        return Optional.ofNullable(getComponentFieldsMap().get(component));
+    }
+
+    @Nonnull
+    private Map<Component, Field> initComponentFieldsMap() {
+        var map = new IdentityHashMap<Component, Field>();
+        getFieldsMap().forEach((field, component) -> map.put(component, field));
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Nonnull
+    private Map<String, Component> initPropertyFieldsMap() {
+        var map = new HashMap<String, Component>();
+        getFieldsMap().forEach((field, component) -> map.put(field.getName(), component));
+        return Collections.unmodifiableMap(map);
     }
 
 }
@@ -3,12 +3,12 @@ package io.taf.views.form;
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
-import com.vaadin.flow.data.binder.BeanValidationBinder;
 import io.taf.entity.Entity;
 import jakarta.annotation.Nonnull;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.Optional;
 
 public interface Form<ENTITY extends Entity<? extends Serializable>> {
 
@@ -20,6 +20,15 @@ public interface Form<ENTITY extends Entity<? extends Serializable>> {
     Class<ENTITY> getEntityClass();
 
     @Nonnull
-    BeanValidationBinder<ENTITY> getBinder();
+    FormBinder<ENTITY> getBinder();
+
+    /**
+     * Finds the field component bound to an entity property.
+     *
+     * @param propertyName the property name
+     * @return the field component or empty if the property is not bound
+     */
+    @Nonnull
+    Optional<Component> findField(@Nonnull String propertyName);
 
 }
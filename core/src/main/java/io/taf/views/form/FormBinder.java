@@ -0,0 +1,81 @@
+package io.taf.views.form;
+
+import com.vaadin.flow.data.binder.BeanValidationBinder;
+import io.taf.utils.accessor.EntityAccessor;
+import io.taf.utils.accessor.PropertyAccessor;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Binder taking a snapshot of the bound bean properties whenever a bean is set, so the properties changed
+ * in the form since then are known and a service can write only them.
+ *
+ * @param <BEAN> the bean type
+ */
+public class FormBinder<BEAN> extends BeanValidationBinder<BEAN> {
+
+    private final List<PropertyAccessor<BEAN>> properties;
+
+    private Map<String, Object> snapshot = Map.of();
+
+    public FormBinder(@Nonnull Class<BEAN> beanType, @Nonnull Collection<Field> fields) {
+        super(beanType);
+        var accessor = EntityAccessor.of(beanType);
+        this.properties = fields.stream()
+                .map(accessor::getAccessor)
+                .toList();
+    }
+
+    @Override
+    public void setBean(@Nullable BEAN bean) {
+        snapshot = takeSnapshot(bean);
+        super.setBean(bean);
+    }
+
+    /**
+     * @return the names of the bound properties whose values differ from the ones the bean had when it was set
+     */
+    @Nonnull
+    public Set<String> getChangedProperties() {
+        return Optional.ofNullable(getBean())
+                .map(this::getChangedProperties)
+                .orElseGet(LinkedHashSet::new);
+    }
+
+    /**
+     * Compares another instance of the bean, e.g. the current state read again, with the snapshot.
+     *
+     * @param bean the bean to compare
+     * @return the names of the bound properties whose values in the given bean differ from the snapshot
+     */
+    @Nonnull
+    public Set<String> getChangedProperties(@Nonnull BEAN bean) {
+        var result = new LinkedHashSet<String>();
+        properties.forEach(property -> {
+            if (!Objects.equals(snapshot.get(property.getName()), property.get(bean))) {
+                result.add(property.getName());
+            }
+        });
+        return result;
+    }
+
+    @Nonnull
+    private Map<String, Object> takeSnapshot(@Nullable BEAN bean) {
+        var result = new HashMap<String, Object>();
+        if (bean != null) {
+            properties.forEach(property -> result.put(property.getName(), property.get(bean)));
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,85 @@
+package io.taf.views.form;
+
+import io.taf.entity.AbstractEntity;
+import io.taf.utils.accessor.EntityAccessor;
+import io.taf.utils.accessor.PropertyAccessor;
+import io.taf.utils.fields.FieldUtils;
+import jakarta.annotation.Nonnull;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Binding plan of the form fields of an entity class: the property accessor of every bound field and
+ * the converter of the {@link Double} values of a number field to the property type. The plan is built
+ * once per entity class and shared by all forms of that entity.
+ *
+ * @param <ENTITY> the entity type
+ */
+@SuppressWarnings("unchecked")
+public final class FormBindingPlan<ENTITY> {
+
+    private static final ClassValue<FormBindingPlan<?>> PLANS = new ClassValue<>() {
+        @Override
+        protected FormBindingPlan<?> computeValue(Class<?> type) {
+            return new FormBindingPlan<>(type);
+        }
+    };
+
+    private final EntityAccessor<ENTITY> entityAccessor;
+
+    private final Map<Field, FieldBinding<ENTITY>> bindings = new ConcurrentHashMap<>();
+
+    private FormBindingPlan(@Nonnull Class<ENTITY> entityClass) {
+        this.entityAccessor = EntityAccessor.of(entityClass);
+    }
+
+    @Nonnull
+    public static <ENTITY> FormBindingPlan<ENTITY> of(@Nonnull Class<ENTITY> entityClass) {
+        return (FormBindingPlan<ENTITY>) PLANS.get(entityClass);
+    }
+
+    @Nonnull
+    public FieldBinding<ENTITY> getBinding(@Nonnull Field field) {
+        return bindings.computeIfAbsent(field, f -> new FieldBinding<>(
+                entityAccessor.getAccessor(f),
+                StringUtils.equals(f.getName(), AbstractEntity.Fields.id),
+                createNumberConverter(f)));
+    }
+
+    @Nonnull
+    private static Function<Number, Object> createNumberConverter(@Nonnull Field field) {
+        if (FieldUtils.isByteField(field)) {
+            return Number::byteValue;
+        } else if (FieldUtils.isShortField(field)) {
+            return Number::shortValue;
+        } else if (FieldUtils.isIntegerField(field)) {
+            return Number::intValue;
+        } else if (FieldUtils.isLongField(field)) {
+            return Number::longValue;
+        } else if (FieldUtils.isFloatField(field)) {
+            return Number::floatValue;
+        } else if (FieldUtils.isDoubleField(field)) {
+            return Number::doubleValue;
+        } else {
+            return number -> null;
+        }
+    }
+
+    /**
+     * Binding of a single entity field.
+     *
+     * @param accessor        the property accessor
+     * @param id              whether the field is the entity identifier
+     * @param numberConverter converts a number field value to the property type
+     * @param <ENTITY>        the entity type
+     */
+    public record FieldBinding<ENTITY>(@Nonnull PropertyAccessor<ENTITY> accessor,
+                                       boolean id,
+                                       @Nonnull Function<Number, Object> numberConverter) {
+    }
+
+}
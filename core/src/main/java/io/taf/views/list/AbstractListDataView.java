@@ -4,20 +4,35 @@ import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.data.provider.DataChangeEvent;
+import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.router.RouteParam;
 import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import io.taf.entity.DataEntity;
+import io.taf.service.CountStrategy;
 import io.taf.utils.GenericUtils;
+import io.taf.utils.ListDataViewUtils;
 import io.taf.utils.NavigateUtils;
 import io.taf.utils.grid.GridUtils;
 import io.taf.views.common.AbstractDataView;
 import io.taf.views.item.ItemDataView;
+import io.taf.views.panel.AbstractListDataCommandPanel;
+import io.taf.views.panel.DefaultListDataCommandPanel;
+import io.taf.views.panel.ListDataCommandPanel;
 import jakarta.annotation.Nonnull;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+@SuppressWarnings({"rawtypes", "unchecked"})
 public abstract class AbstractListDataView<ENTITY extends DataEntity<ID>, ID extends Serializable,
         ITEM_DATA_VIEW extends Component & ItemDataView<ENTITY, ID, LIST_DATA_VIEW, ITEM_DATA_VIEW>,
         LIST_DATA_VIEW extends Component & ListDataView<ENTITY, ID, ITEM_DATA_VIEW, LIST_DATA_VIEW>>
@@ -33,18 +48,98 @@ public abstract class AbstractListDataView<ENTITY extends DataEntity<ID>, ID ext
     @Getter(onMethod_ = {@Override, @Nonnull}, lazy = true)
     private final Grid<ENTITY> grid = initGrid();
 
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull})
+    private final KeysetCursor keysetCursor = new KeysetCursor();
+
+    @Getter(value = AccessLevel.PROTECTED, lazy = true)
+    private final boolean projected = getClass().isAnnotationPresent(ListProjection.class);
+
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull}, lazy = true)
+    private final List<String> projectedAttributes = ListDataViewUtils.getDisplayableFields(getEntityClass()).stream()
+            .map(Field::getName)
+            .toList();
+
+    @Autowired(required = false)
+    private ListDataCommandPanel<LIST_DATA_VIEW> commandPanel;
+
+    @Nonnull
+    @Override
+    public AbstractListDataCommandPanel getCommandPanel() {
+        return (AbstractListDataCommandPanel) Objects.requireNonNull(super.getCommandPanel());
+    }
+
+    @Nonnull
+    @Override
+    protected AbstractListDataCommandPanel initCommandPanel() {
+        var result = (AbstractListDataCommandPanel) Optional.ofNullable(commandPanel)
+                .orElseGet(() -> getBeanFactory().createBean(DefaultListDataCommandPanel.class));
+        result.setView(this);
+        return result;
+    }
 
     @Nonnull
     protected Grid<ENTITY> initGrid() {
         var grid = GridUtils.createBasedOnEntity(getEntityClass());
         grid.setId(GRID_COMPONENT_ID);
         grid.setSizeFull();
+        grid.setSelectionMode(Grid.SelectionMode.MULTI);
         grid.addItemDoubleClickListener(event -> navigateToItem(event.getItem()));
         return grid;
     }
 
+    /**
+     * Binds the grid to the service. Pages are fetched as slices, so no count query runs next to the data query.
+     * With the {@link CountStrategy#EXACT exact} count strategy the grid gets a defined size counted once per refresh,
+     * otherwise it works in the undefined-size mode, initialized with the cached or estimated count.
+     */
     protected void initGridContent() {
-        getGrid().setItems(query -> getService().list(VaadinSpringDataHelpers.toSpringPageRequest(query)).stream());
+        var service = getService();
+        if (service.getCountStrategy() == CountStrategy.EXACT) {
+            getGrid().setItems(this::fetchGridItems, query -> toItemCount(service.count(getFilter())));
+        } else {
+            getGrid().setItems(this::fetchGridItems)
+                    .setItemCountEstimate(Math.max(1, toItemCount(service.count(getFilter()))));
+        }
+        // A refresh of single items keeps the offsets, any other change invalidates the remembered positions
+        getGrid().getDataProvider().addDataProviderListener(event -> {
+            if (!(event instanceof DataChangeEvent.DataRefreshEvent)) {
+                getKeysetCursor().reset();
+            }
+        });
+    }
+
+    /**
+     * Fetches a page of grid items. Whenever the sort order allows it and the requested page directly follows
+     * an already fetched one, the page is loaded by keyset (seek) pagination, so the fetch latency does not
+     * depend on the scroll depth. Otherwise, and always if the view is filtered, the page is loaded by offset
+     * pagination. A {@link ListProjection projected} view loads the pages by offset as projections of the displayed fields.
+     *
+     * @param query the grid query
+     * @return the items of the requested page
+     */
+    @Nonnull
+    protected Stream<ENTITY> fetchGridItems(@Nonnull Query<ENTITY, Void> query) {
+        if (isProjected()) {
+            return getService().sliceProjection(VaadinSpringDataHelpers.toSpringPageRequest(query), getFilter(),
+                    getProjectedAttributes()).stream();
+        }
+
+        var sort = VaadinSpringDataHelpers.toSpringDataSort(query);
+        var filter = getFilter();
+        return Optional.of(sort)
+                .filter(s -> StringUtils.isBlank(filter))
+                .filter(getService()::isKeysetSortable)
+                .flatMap(s -> getKeysetCursor().find(s, query.getOffset()))
+                .map(position -> {
+                    var window = getService().scroll(position, sort, query.getLimit());
+                    getKeysetCursor().remember(sort, query.getOffset(), window);
+                    return window.stream();
+                })
+                .orElseGet(() -> getService().slice(VaadinSpringDataHelpers.toSpringPageRequest(query), filter).stream());
+    }
+
+    private int toItemCount(long count) {
+        return (int) Math.min(Integer.MAX_VALUE, count);
     }
 
     protected void navigateToItem(@Nonnull ENTITY item) {
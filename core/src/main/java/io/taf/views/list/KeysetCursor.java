@@ -0,0 +1,64 @@
+package io.taf.views.list;
+
+import jakarta.annotation.Nonnull;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Remembers the keyset positions of already fetched grid pages. The grid requests pages by offset,
+ * so the position after the last item of every fetched window is stored under the offset of the
+ * next page. A sequential scroll can then seek by the last seen key instead of skipping rows.
+ * Positions are dropped whenever the sort order changes or the data is refreshed.
+ */
+public class KeysetCursor {
+
+    private final Map<Integer, ScrollPosition> positions = new HashMap<>();
+
+    private Sort sort = Sort.unsorted();
+
+    /**
+     * Finds the keyset position to continue from for the given offset.
+     *
+     * @param sort   the current sort order
+     * @param offset the offset requested by the grid
+     * @return the initial keyset position for the first page, a remembered position for a sequential page,
+     * or empty if the offset was reached by jumping and has to be served by offset pagination
+     */
+    @Nonnull
+    public Optional<ScrollPosition> find(@Nonnull Sort sort, int offset) {
+        if (!sort.equals(this.sort)) {
+            reset(sort);
+        }
+
+        if (offset == 0) {
+            return Optional.of(ScrollPosition.keyset());
+        }
+
+        return Optional.ofNullable(positions.get(offset));
+    }
+
+    public void remember(@Nonnull Sort sort, int offset, @Nonnull Window<?> window) {
+        if (!sort.equals(this.sort) || window.isEmpty()) {
+            return;
+        }
+        positions.put(offset + window.size(), window.positionAt(window.size() - 1));
+    }
+
+    public void reset(@Nonnull Sort sort) {
+        this.sort = sort;
+        positions.clear();
+    }
+
+    /**
+     * Drops the remembered positions, they are stale once rows have been added or removed.
+     */
+    public void reset() {
+        positions.clear();
+    }
+
+}
@@ -22,6 +22,14 @@ public interface ListDataView<ENTITY extends DataEntity<ID>, ID extends Serializ
     @Nonnull
     Grid<ENTITY> getGrid();
 
+    /**
+     * @return the filter text the data of the view is currently restricted by, null if it is not filtered
+     */
+    @Nullable
+    default String getFilter() {
+        return null;
+    }
+
     @Nullable
     @Override
     default AbstractCommandPanel getCommandPanel() {
@@ -0,0 +1,16 @@
+package io.taf.views.list;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Makes the list view load its grid pages as projections: only the identifier and the fields displayed with
+ * {@link DisplayOnListDataView} are selected, and the rows are not managed by the persistence context.
+ * Projected pages are always fetched by offset, keyset pagination is not used.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ListProjection {
+}
@@ -1,8 +1,13 @@
 package io.taf.views.panel;
 
+import com.vaadin.flow.component.HasLabel;
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.contextmenu.MenuItem;
 import com.vaadin.flow.component.contextmenu.SubMenu;
+import com.vaadin.flow.component.dialog.Dialog;
+import com.vaadin.flow.component.html.Paragraph;
 import com.vaadin.flow.component.menubar.MenuBar;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.notification.NotificationVariant;
@@ -11,6 +16,11 @@ import io.taf.entity.DataEntity;
 import io.taf.entity.Entity;
 import io.taf.views.item.ItemDataView;
 import jakarta.annotation.Nonnull;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @SuppressWarnings("rawtypes")
 public abstract class AbstractItemDataCommandPanel<ITEM_DATA_VIEW extends ItemDataView>
@@ -26,6 +36,7 @@ public abstract class AbstractItemDataCommandPanel<ITEM_DATA_VIEW extends ItemDa
     public static final String MORE_COMMAND_COMPONENT_ID = "command-more";
     public static final String TOGGLE_DELETION_MARK_COMMAND_COMPONENT_ID = "command-toggle-deletion-mark";
     public static final String TOGGLE_DRAFT_MARK_COMPONENT_ID = "command-toggle-draft-mark";
+    public static final String SAVE_CONFLICT_DIALOG_COMPONENT_ID = "save-conflict-dialog";
 
     @Nonnull
     @Override
@@ -70,17 +81,7 @@ public abstract class AbstractItemDataCommandPanel<ITEM_DATA_VIEW extends ItemDa
 
     @SuppressWarnings("unchecked")
     protected void initSaveCommandClickListener(@Nonnull MenuItem item) {
-        item.addClickListener(event -> {
-            var binder = getView().getForm().getBinder();
-            if (!binder.validate().isOk()) {
-                return;
-            }
-
-            var bean = binder.getBean();
-            var updatedBean = getView().getService().createOrUpdate((Entity) bean);
-
-            binder.setBean(updatedBean);
-
+        item.addClickListener(event -> saveBean(() -> {
             // Update current URL
 //                        if (ItemViewType.COPY.equals(itemViewType)) {
 //                            var newRoute = RouteConfiguration.forSessionScope().getUrl(getClass(),
@@ -95,7 +96,7 @@ public abstract class AbstractItemDataCommandPanel<ITEM_DATA_VIEW extends ItemDa
             var notification = getMessageProvider().getMessage("command.save.notification.success");
             Notification.show(notification, 3000, Notification.Position.TOP_CENTER)
                     .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
-        });
+        }));
     }
 
     @Nonnull
@@ -123,24 +124,106 @@ public abstract class AbstractItemDataCommandPanel<ITEM_DATA_VIEW extends ItemDa
 
     @SuppressWarnings("unchecked")
     protected void initSaveAndCloseCommandClickListener(@Nonnull MenuItem item) {
-        item.addClickListener(event -> {
-            var binder = getView().getForm().getBinder();
-            if (!binder.validate().isOk()) {
-                return;
-            }
-
-            var bean = binder.getBean();
-            var updatedBean = getView().getService().createOrUpdate((Entity) bean);
-
-            binder.setBean(updatedBean);
-
+        item.addClickListener(event -> saveBean(() -> {
             UI.getCurrent().navigate(getView().getListDataViewClass());
 
             // Show notification
             var notification = getMessageProvider().getMessage("command.save.and.close.notification.success");
             Notification.show(notification, 3000, Notification.Position.TOP_CENTER)
                     .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+        }));
+    }
+
+    /**
+     * Validates and saves the bean of the form, writing only the changed properties. If the entity was changed
+     * by someone else meanwhile, the {@link #openSaveConflictDialog save conflict dialog} is opened instead.
+     *
+     * @param onSaved the action run after the bean is saved
+     */
+    @SuppressWarnings("unchecked")
+    protected void saveBean(@Nonnull Runnable onSaved) {
+        var binder = getView().getForm().getBinder();
+        if (!binder.validate().isOk()) {
+            return;
+        }
+
+        saveBean((Entity) binder.getBean(), binder.getChangedProperties(), onSaved);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void saveBean(@Nonnull Entity bean, @Nonnull Set<String> changedProperties, @Nonnull Runnable onSaved) {
+        try {
+            getView().getForm().getBinder().setBean(getView().getService().createOrUpdate(bean, changedProperties));
+        } catch (OptimisticLockingFailureException e) {
+            openSaveConflictDialog(bean, changedProperties, onSaved);
+            return;
+        }
+        onSaved.run();
+    }
+
+    /**
+     * Shows the properties changed by someone else since the bean was read and lets the user either reload
+     * the current data, dropping the own changes, or save the own changes over the current data.
+     *
+     * @param bean              the bean failed to save
+     * @param changedProperties the properties changed in the form
+     * @param onSaved           the action run if the bean is saved
+     */
+    @SuppressWarnings("unchecked")
+    protected void openSaveConflictDialog(@Nonnull Entity bean, @Nonnull Set<String> changedProperties,
+                                          @Nonnull Runnable onSaved) {
+        var binder = getView().getForm().getBinder();
+        var current = (Optional<Entity>) getView().getService().find(bean.getId());
+        if (current.isEmpty()) {
+            var notification = getMessageProvider().getMessage("command.save.conflict.notification.deleted");
+            Notification.show(notification, 3000, Notification.Position.TOP_CENTER)
+                    .addThemeVariants(NotificationVariant.LUMO_ERROR);
+            return;
+        }
+
+        var actual = current.get();
+        var changedByOthers = (Set<String>) binder.getChangedProperties(actual);
+
+        var dialog = new Dialog();
+        dialog.setId(SAVE_CONFLICT_DIALOG_COMPONENT_ID);
+        dialog.setHeaderTitle(getMessageProvider().getMessage("command.save.conflict.title", SAVE_CONFLICT_DEFAULT_TITLE));
+        dialog.add(new Paragraph(getMessageProvider().getMessage("command.save.conflict.text")));
+        if (!changedByOthers.isEmpty()) {
+            dialog.add(new Paragraph(getMessageProvider().getMessage("command.save.conflict.changed") + " "
+                    + changedByOthers.stream().map(this::getPropertyLabel).collect(Collectors.joining(", "))));
+        }
+        changedByOthers.retainAll(changedProperties);
+        if (!changedByOthers.isEmpty()) {
+            dialog.add(new Paragraph(getMessageProvider().getMessage("command.save.conflict.overlapping") + " "
+                    + changedByOthers.stream().map(this::getPropertyLabel).collect(Collectors.joining(", "))));
+        }
+
+        var reload = new Button(getMessageProvider().getMessage("command.save.conflict.reload.title", SAVE_CONFLICT_RELOAD_DEFAULT_TITLE), event -> {
+            dialog.close();
+            binder.setBean(actual);
+        });
+        var overwrite = new Button(getMessageProvider().getMessage("command.save.conflict.overwrite.title", SAVE_CONFLICT_OVERWRITE_DEFAULT_TITLE), event -> {
+            dialog.close();
+            bean.setVersion(actual.getVersion());
+            saveBean(bean, changedProperties, () -> {
+                // Show the own changes together with the ones of the others
+                ((Optional<Entity>) getView().getService().find(bean.getId())).ifPresent(binder::setBean);
+                onSaved.run();
+            });
         });
+        overwrite.addThemeVariants(ButtonVariant.LUMO_PRIMARY, ButtonVariant.LUMO_ERROR);
+        var cancel = new Button(getMessageProvider().getMessage("command.title.cancel", CANCEL_COMMAND_DEFAULT_TITLE), event -> dialog.close());
+
+        dialog.getFooter().add(cancel, reload, overwrite);
+        dialog.open();
+    }
+
+    @Nonnull
+    protected String getPropertyLabel(@Nonnull String propertyName) {
+        return getView().getForm().findField(propertyName)
+                .filter(HasLabel.class::isInstance)
+                .map(component -> ((HasLabel) component).getLabel())
+                .orElse(propertyName);
     }
 
     @Nonnull
@@ -0,0 +1,379 @@
+package io.taf.views.panel;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.contextmenu.MenuItem;
+import com.vaadin.flow.component.contextmenu.SubMenu;
+import com.vaadin.flow.component.dialog.Dialog;
+import com.vaadin.flow.component.html.Anchor;
+import com.vaadin.flow.component.html.Paragraph;
+import com.vaadin.flow.component.html.Pre;
+import com.vaadin.flow.component.menubar.MenuBar;
+import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.notification.NotificationVariant;
+import com.vaadin.flow.component.progressbar.ProgressBar;
+import com.vaadin.flow.component.upload.Upload;
+import com.vaadin.flow.component.upload.receivers.FileBuffer;
+import com.vaadin.flow.router.RouteParam;
+import com.vaadin.flow.server.StreamResource;
+import com.vaadin.flow.theme.lumo.LumoUtility;
+import io.taf.entity.Entity;
+import io.taf.imports.CatalogImporter;
+import io.taf.imports.ImportResult;
+import io.taf.service.CatalogService;
+import io.taf.utils.MessageProvider;
+import io.taf.utils.NavigateUtils;
+import io.taf.utils.export.ExportFormat;
+import io.taf.utils.export.ExportUtils;
+import io.taf.utils.grid.GridUtils;
+import io.taf.views.list.ListDataView;
+import jakarta.annotation.Nonnull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+
+import java.io.FileInputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Command panel of a list view. The commands work on the rows selected in the grid of the view;
+ * the mark commands update the whole selection with one statement. The export commands download
+ * all entities matching the filter of the view; catalogs can be imported from CSV as well.
+ */
+@SuppressWarnings("rawtypes")
+public abstract class AbstractListDataCommandPanel<LIST_DATA_VIEW extends ListDataView>
+        extends AbstractDataCommandPanel<LIST_DATA_VIEW>
+        implements ListDataCommandPanel<LIST_DATA_VIEW> {
+
+    public static final String OPEN_COMMAND_COMPONENT_ID = "command-open";
+    public static final String DELETE_COMMAND_COMPONENT_ID = "command-delete";
+    public static final String MORE_COMMAND_COMPONENT_ID = "command-more";
+    public static final String TOGGLE_DELETION_MARK_COMMAND_COMPONENT_ID = "command-toggle-deletion-mark";
+    public static final String TOGGLE_DRAFT_MARK_COMPONENT_ID = "command-toggle-draft-mark";
+    public static final String IMPORT_COMMAND_COMPONENT_ID = "command-import";
+    public static final String EXPORT_COMMAND_COMPONENT_ID = "command-export";
+    public static final String IMPORT_DIALOG_COMPONENT_ID = "dialog-import";
+
+    @Autowired
+    @Getter(value = AccessLevel.PROTECTED, onMethod_ = {@Nonnull})
+    private CatalogImporter catalogImporter;
+
+    /**
+     * Binds the panel to the view. The import command is only shown for catalogs, whose rows are matched
+     * by their code.
+     */
+    @Override
+    public void setView(@Nonnull LIST_DATA_VIEW view) {
+        super.setView(view);
+        getImportCommand().setVisible(view.getService() instanceof CatalogService);
+    }
+
+    @Nonnull
+    @Override
+    protected MenuBar initMenu() {
+        var menu = super.initMenu();
+        addComponent(OPEN_COMMAND_COMPONENT_ID, initOpenCommand(menu));
+        addComponent(DELETE_COMMAND_COMPONENT_ID, initDeleteCommand(menu));
+        return menu;
+    }
+
+    @Nonnull
+    @Override
+    protected MenuBar initMoreMenu() {
+        var menu = super.initMoreMenu();
+        addComponent(MORE_COMMAND_COMPONENT_ID, initMoreCommand(menu));
+        return menu;
+    }
+
+    @Nonnull
+    @Override
+    public final MenuItem getOpenCommand() {
+        return getComponent(OPEN_COMMAND_COMPONENT_ID, MenuItem.class);
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    protected MenuItem initOpenCommand(@Nonnull MenuBar menuBar) {
+        var item = menuBar.addItem(getMessageProvider().getMessage("command.open.title", OPEN_COMMAND_DEFAULT_TITLE));
+        item.setId(OPEN_COMMAND_COMPONENT_ID);
+        item.addClassNames(LumoUtility.TextColor.PRIMARY_CONTRAST, LumoUtility.Background.PRIMARY);
+        item.addClickListener(event -> getSelectedIds().stream()
+                .findFirst()
+                .ifPresent(id -> UI.getCurrent().navigate(getView().getItemDataViewClass(),
+                        new RouteParam(NavigateUtils.URL_PARAM_ID_ALIAS, id.toString()))));
+        return item;
+    }
+
+    @Nonnull
+    @Override
+    public final MenuItem getDeleteCommand() {
+        return getComponent(DELETE_COMMAND_COMPONENT_ID, MenuItem.class);
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    protected MenuItem initDeleteCommand(@Nonnull MenuBar menuBar) {
+        var item = menuBar.addItem(getMessageProvider().getMessage("command.delete.title", DELETE_COMMAND_DEFAULT_TITLE));
+        item.setId(DELETE_COMMAND_COMPONENT_ID);
+        item.addClassNames(LumoUtility.TextColor.WARNING);
+        item.addClickListener(event -> {
+
+            var ids = getSelectedIds();
+            if (ids.isEmpty()) {
+                return;
+            }
+
+            getView().getService().deleteAllById(ids);
+            refreshGrid();
+
+            var notification = getMessageProvider().getMessage("commands.delete.notification.success");
+            Notification.show(notification, 3000, Notification.Position.TOP_CENTER)
+                    .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+        });
+        return item;
+    }
+
+    @Nonnull
+    @Override
+    public final MenuItem getMoreCommand() {
+        return getComponent(MORE_COMMAND_COMPONENT_ID, MenuItem.class);
+    }
+
+    @Nonnull
+    protected MenuItem initMoreCommand(@Nonnull MenuBar menuBar) {
+        var item = menuBar.addItem(getMessageProvider().getMessage("command.title.more", MORE_COMMAND_DEFAULT_TITLE));
+        item.setId(MORE_COMMAND_COMPONENT_ID);
+
+        var subMenu = item.getSubMenu();
+
+        addComponent(TOGGLE_DELETION_MARK_COMMAND_COMPONENT_ID, initToggleDeletionMarkCommand(subMenu));
+        addComponent(TOGGLE_DRAFT_MARK_COMPONENT_ID, initToggleDraftMarkCommand(subMenu));
+        addComponent(IMPORT_COMMAND_COMPONENT_ID, initImportCommand(subMenu));
+        addComponent(EXPORT_COMMAND_COMPONENT_ID, initExportCommand(subMenu));
+
+        return item;
+    }
+
+    @Nonnull
+    @Override
+    public MenuItem getToggleDeletionMarkCommand() {
+        return getComponent(TOGGLE_DELETION_MARK_COMMAND_COMPONENT_ID, MenuItem.class);
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    protected MenuItem initToggleDeletionMarkCommand(@Nonnull SubMenu subMenu) {
+        var item = subMenu.addItem(getMessageProvider().getMessage("command.toggle.deletion.mark.title", TOGGLE_DELETION_MARK_COMMAND_DEFAULT_TITLE));
+        item.setId(TOGGLE_DELETION_MARK_COMMAND_COMPONENT_ID);
+        item.addClickListener(event -> {
+
+            var ids = getSelectedIds();
+            if (ids.isEmpty()) {
+                return;
+            }
+
+            getView().getService().toggleDeletionMark(ids);
+            refreshGrid();
+
+            var notificationText = getMessageProvider().getMessage("command.toggle.deletion.mark.notification.success.toggled");
+            Notification.show(notificationText, 3000, Notification.Position.TOP_CENTER)
+                    .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+
+        });
+        return item;
+    }
+
+    @Nonnull
+    @Override
+    public MenuItem getToggleDraftMarkCommand() {
+        return getComponent(TOGGLE_DRAFT_MARK_COMPONENT_ID, MenuItem.class);
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    protected MenuItem initToggleDraftMarkCommand(@Nonnull SubMenu subMenu) {
+        var item = subMenu.addItem(getMessageProvider().getMessage("command.toggle.draft.mark.title", TOGGLE_DRAFT_MARK_COMMAND_DEFAULT_TITLE));
+        item.setId(TOGGLE_DRAFT_MARK_COMPONENT_ID);
+        item.addClickListener(event -> {
+
+            var ids = getSelectedIds();
+            if (ids.isEmpty()) {
+                return;
+            }
+
+            getView().getService().toggleDraftMark(ids);
+            refreshGrid();
+
+            var notificationText = getMessageProvider().getMessage("command.toggle.draft.mark.notification.success.toggled");
+            Notification.show(notificationText, 3000, Notification.Position.TOP_CENTER)
+                    .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+
+        });
+        return item;
+    }
+
+    @Nonnull
+    @Override
+    public MenuItem getImportCommand() {
+        return getComponent(IMPORT_COMMAND_COMPONENT_ID, MenuItem.class);
+    }
+
+    @Nonnull
+    protected MenuItem initImportCommand(@Nonnull SubMenu subMenu) {
+        var item = subMenu.addItem(getMessageProvider().getMessage("command.import.title", IMPORT_COMMAND_DEFAULT_TITLE));
+        item.setId(IMPORT_COMMAND_COMPONENT_ID);
+        item.addClickListener(event -> openImportDialog());
+        return item;
+    }
+
+    /**
+     * Opens the dialog importing the catalog of the view from an uploaded CSV file. The upload is buffered
+     * in a temporary file, which is imported on a thread of the {@link CatalogImporter}; the dialog polls for
+     * the progress until the import completes. Detaching the dialog, for example by leaving the page,
+     * cancels the import.
+     */
+    @SuppressWarnings("unchecked")
+    protected void openImportDialog() {
+        var service = (CatalogService) getView().getService();
+        var ui = UI.getCurrent();
+
+        var buffer = new FileBuffer();
+        var upload = new Upload(buffer);
+        upload.setAcceptedFileTypes("text/csv", ".csv");
+        upload.setMaxFiles(1);
+        var progressBar = new ProgressBar();
+        progressBar.setVisible(false);
+        var status = new Paragraph();
+
+        var dialog = new Dialog();
+        dialog.setId(IMPORT_DIALOG_COMPONENT_ID);
+        dialog.setHeaderTitle(getMessageProvider().getMessage("command.import.dialog.title", IMPORT_DIALOG_DEFAULT_TITLE));
+        dialog.add(upload, progressBar, status);
+        var close = new Button(getMessageProvider().getMessage("command.import.close.title", IMPORT_CLOSE_DEFAULT_TITLE), event -> dialog.close());
+        dialog.getFooter().add(close);
+
+        upload.addSucceededListener(event -> {
+            var file = buffer.getFileData().getFile();
+            var size = Math.max(1, event.getContentLength());
+            upload.setVisible(false);
+            progressBar.setVisible(true);
+            close.setEnabled(false);
+            dialog.setCloseOnEsc(false);
+            dialog.setCloseOnOutsideClick(false);
+            ui.setPollInterval(500);
+
+            CompletableFuture<ImportResult> future = getCatalogImporter().importCsvAsync(service, () -> new FileInputStream(file),
+                    progress -> ui.access(() -> {
+                        progressBar.setValue(Math.min(1, (double) progress.bytes() / size));
+                        status.setText(getMessageProvider().getValue("command.import.progress",
+                                new Object[]{progress.rows(), progress.rejected()}, null));
+                    }));
+            dialog.addDetachListener(detachEvent -> future.cancel(true));
+            future.whenComplete((result, error) -> {
+                FileUtils.deleteQuietly(file);
+                if (error instanceof CancellationException) {
+                    // The dialog was detached, only the polling of a still attached UI is left to stop
+                    ui.access(() -> ui.setPollInterval(-1));
+                    return;
+                }
+                ui.access(() -> {
+                    ui.setPollInterval(-1);
+                    progressBar.setVisible(false);
+                    close.setEnabled(true);
+                    dialog.setCloseOnEsc(true);
+                    dialog.setCloseOnOutsideClick(true);
+                    if (error != null) {
+                        status.setText(getMessageProvider().getValue("command.import.notification.failure",
+                                new Object[]{ExceptionUtils.getRootCauseMessage(error)}, null));
+                        return;
+                    }
+
+                    status.setText(getMessageProvider().getValue("command.import.notification.success",
+                            new Object[]{result.rows(), result.inserted(), result.updated(), result.rejected()}, null));
+                    if (!result.errors().isEmpty()) {
+                        dialog.add(new Pre(String.join("\n", result.errors())));
+                    }
+                    refreshGrid();
+                });
+            });
+        });
+        dialog.open();
+    }
+
+    @Nonnull
+    @Override
+    public MenuItem getExportCommand() {
+        return getComponent(EXPORT_COMMAND_COMPONENT_ID, MenuItem.class);
+    }
+
+    @Nonnull
+    protected MenuItem initExportCommand(@Nonnull SubMenu subMenu) {
+        var item = subMenu.addItem(getMessageProvider().getMessage("command.export.title", EXPORT_COMMAND_DEFAULT_TITLE));
+        item.setId(EXPORT_COMMAND_COMPONENT_ID);
+        for (var format : ExportFormat.values()) {
+            var title = getMessageProvider().getMessage("command.export." + format.getExtension() + ".title",
+                    format.name());
+            var anchor = new Anchor();
+            anchor.setText(title);
+            anchor.getElement().setAttribute("download", true);
+            // The panel is initialized before it is bound to its view, so the resource is created once shown
+            anchor.addAttachListener(event -> anchor.setHref(createExportResource(format)));
+            item.getSubMenu().addItem(anchor);
+        }
+        return item;
+    }
+
+    /**
+     * Creates the resource exporting all entities matching the current filter of the view in the current
+     * sort order of its grid. The entities are streamed from the service straight into the response,
+     * so neither the result nor the file is held in memory.
+     *
+     * @param format the export format
+     * @return the downloadable resource
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    protected StreamResource createExportResource(@Nonnull ExportFormat format) {
+        var entityClass = getView().getEntityClass();
+        var resource = new StreamResource(entityClass.getSimpleName() + "." + format.getExtension(), (output, session) -> {
+            Sort sort;
+            String filter;
+            session.lock();
+            try {
+                sort = GridUtils.getSort(getView().getGrid());
+                filter = getView().getFilter();
+            } finally {
+                session.unlock();
+            }
+
+            var columns = ExportUtils.createColumns(entityClass, MessageProvider.getMessageProviderValueFunctional());
+            try (var writer = ExportUtils.createWriter(format, output, columns)) {
+                getView().getService().forEach(filter, sort, writer::write);
+            }
+        });
+        resource.setContentType(format.getContentType());
+        return resource;
+    }
+
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    protected List getSelectedIds() {
+        return getView().getGrid().getSelectedItems().stream()
+                .map(entity -> ((Entity) entity).getId())
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    protected void refreshGrid() {
+        var grid = getView().getGrid();
+        grid.deselectAll();
+        grid.getDataProvider().refreshAll();
+    }
+
+}
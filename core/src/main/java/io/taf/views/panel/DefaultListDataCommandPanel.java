@@ -0,0 +1,5 @@
+package io.taf.views.panel;
+
+@SuppressWarnings("rawtypes")
+public class DefaultListDataCommandPanel extends AbstractListDataCommandPanel {
+}
@@ -15,6 +15,9 @@ public interface ItemDataCommandPanel<ITEM_DATA_VIEW extends ItemDataView>
     String MORE_COMMAND_DEFAULT_TITLE = "More..";
     String TOGGLE_DELETION_MARK_COMMAND_DEFAULT_TITLE = "Toggle deletion mark";
     String TOGGLE_DRAFT_MARK_COMMAND_DEFAULT_TITLE = "Toggle draft mark";
+    String SAVE_CONFLICT_DEFAULT_TITLE = "Data changed by another user";
+    String SAVE_CONFLICT_RELOAD_DEFAULT_TITLE = "Reload";
+    String SAVE_CONFLICT_OVERWRITE_DEFAULT_TITLE = "Save my changes";
 
     @Nonnull
     MenuItem getSaveCommand();
@@ -8,6 +8,16 @@ import jakarta.annotation.Nonnull;
 public interface ListDataCommandPanel<LIST_DATA_VIEW extends ListDataView>
         extends DataCommandPanel<LIST_DATA_VIEW> {
 
+    String OPEN_COMMAND_DEFAULT_TITLE = "Open";
+    String DELETE_COMMAND_DEFAULT_TITLE = "Delete";
+    String MORE_COMMAND_DEFAULT_TITLE = "More..";
+    String TOGGLE_DELETION_MARK_COMMAND_DEFAULT_TITLE = "Toggle deletion mark";
+    String TOGGLE_DRAFT_MARK_COMMAND_DEFAULT_TITLE = "Toggle draft mark";
+    String IMPORT_COMMAND_DEFAULT_TITLE = "Import";
+    String IMPORT_DIALOG_DEFAULT_TITLE = "Import from CSV";
+    String IMPORT_CLOSE_DEFAULT_TITLE = "Close";
+    String EXPORT_COMMAND_DEFAULT_TITLE = "Export";
+
     @Nonnull
     MenuItem getOpenCommand();
 
@@ -23,4 +33,10 @@ public interface ListDataCommandPanel<LIST_DATA_VIEW extends ListDataView>
     @Nonnull
     MenuItem getToggleDraftMarkCommand();
 
+    @Nonnull
+    MenuItem getImportCommand();
+
+    @Nonnull
+    MenuItem getExportCommand();
+
 }